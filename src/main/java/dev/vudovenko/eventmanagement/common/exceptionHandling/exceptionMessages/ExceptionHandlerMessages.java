@@ -27,7 +27,12 @@ public enum ExceptionHandlerMessages {
     EVENT_REGISTRATION_ALREADY_EXISTS("Event registration already exists"),
     EVENT_REGISTRATION_ALREADY_CANCELLED("Event registration already cancelled"),
     EVENT_STATUS_NOT_ALLOWED_FOR_REGISTRATION("Event status not allowed for registration"),
-    EVENT_STATUS_NOT_ALLOWED_FOR_CANCELLATION("Event status not allowed for cancellation"),;
+    EVENT_STATUS_NOT_ALLOWED_FOR_CANCELLATION("Event status not allowed for cancellation"),
+    INVALID_PAGE_TOKEN("Invalid page token"),
+    WAITLIST_ENTRY_NOT_FOUND("Waitlist entry not found"),
+    REGISTRATION_QUEUE_FULL("Registration queue is full"),
+    REGISTRATION_COMMAND_NOT_FOUND("Registration command not found"),
+    IDEMPOTENT_REQUEST_IN_PROGRESS("Request with the same idempotency key is in progress"),;
 
 
     private final String message;
@@ -0,0 +1,160 @@
+package dev.vudovenko.eventmanagement.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.vudovenko.eventmanagement.common.exceptionHandling.dto.ErrorMessageResponse;
+import dev.vudovenko.eventmanagement.common.exceptionHandling.exceptionMessages.ExceptionHandlerMessages;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+@Log4j2
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final List<String> paths;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(
+            IdempotencyStore idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.paths}") List<String> paths
+    ) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.paths = paths;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !HttpMethod.POST.matches(request.getMethod())
+                || paths.stream().noneMatch(path -> pathMatcher.match(path, request.getServletPath()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Optional<User> user = getAuthenticatedUser();
+        if (user.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        IdempotencyStore.Key key = new IdempotencyStore.Key(
+                user.get().getId(),
+                request.getRequestURI(),
+                request.getHeader(IDEMPOTENCY_KEY_HEADER)
+        );
+
+        Optional<IdempotentResponse> storedResponse = idempotencyStore.find(key);
+        if (storedResponse.isPresent()) {
+            replay(storedResponse.get(), response);
+            return;
+        }
+        if (!idempotencyStore.tryStart(key)) {
+            writeRequestInProgress(key, response);
+            return;
+        }
+
+        try {
+            storedResponse = idempotencyStore.find(key);
+            if (storedResponse.isPresent()) {
+                idempotencyStore.abandon(key);
+                replay(storedResponse.get(), response);
+                return;
+            }
+
+            execute(key, request, response, filterChain);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyStore.abandon(key);
+            throw e;
+        }
+    }
+
+    private void execute(
+            IdempotencyStore.Key key,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, responseWrapper);
+
+        if (responseWrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            idempotencyStore.complete(
+                    key,
+                    new IdempotentResponse(
+                            responseWrapper.getStatus(),
+                            responseWrapper.getContentType(),
+                            responseWrapper.getHeader(HttpHeaders.LOCATION),
+                            responseWrapper.getContentAsByteArray()
+                    )
+            );
+        } else {
+            idempotencyStore.abandon(key);
+        }
+
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private void replay(IdempotentResponse storedResponse, HttpServletResponse response) throws IOException {
+        response.setStatus(storedResponse.status());
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, Boolean.TRUE.toString());
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        if (storedResponse.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, storedResponse.location());
+        }
+        response.setContentLength(storedResponse.body().length);
+        response.getOutputStream().write(storedResponse.body());
+    }
+
+    private void writeRequestInProgress(IdempotencyStore.Key key, HttpServletResponse response) throws IOException {
+        log.warn("Request with idempotency key {} is already in progress", key.idempotencyKey());
+        ErrorMessageResponse messageResponse = ErrorMessageResponse.of(
+                ExceptionHandlerMessages.IDEMPOTENT_REQUEST_IN_PROGRESS.getMessage(),
+                "Request with idempotency key %s is still in progress".formatted(key.idempotencyKey())
+        );
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setStatus(HttpStatus.CONFLICT.value());
+        response.getWriter().write(objectMapper.writeValueAsString(messageResponse));
+    }
+
+    private static Optional<User> getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return Optional.of(user);
+        }
+
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,65 @@
+package dev.vudovenko.eventmanagement.common.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+class IdempotencyStore {
+
+    private static final String CACHE_NAME = "idempotentResponses";
+    private static final int RESPONSE_OVERHEAD_BYTES = 256;
+
+    private final Cache<Key, IdempotentResponse> responses;
+    private final Set<Key> keysInProgress = ConcurrentHashMap.newKeySet();
+
+    IdempotencyStore(
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.maximum-bytes}") long maximumBytes,
+            @Value("${idempotency.expire-after-write}") Duration expireAfterWrite
+    ) {
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, IdempotentResponse response) -> response.body().length + RESPONSE_OVERHEAD_BYTES)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, CACHE_NAME);
+    }
+
+    Optional<IdempotentResponse> find(Key key) {
+        return Optional.ofNullable(responses.getIfPresent(key));
+    }
+
+    boolean tryStart(Key key) {
+        return keysInProgress.add(key);
+    }
+
+    void complete(Key key, IdempotentResponse response) {
+        responses.put(key, response);
+        keysInProgress.remove(key);
+    }
+
+    void abandon(Key key) {
+        keysInProgress.remove(key);
+    }
+
+    record Key(
+
+            Long userId,
+
+            String requestUri,
+
+            String idempotencyKey
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package dev.vudovenko.eventmanagement.common.idempotency;
+
+record IdempotentResponse(
+
+        int status,
+
+        String contentType,
+
+        String location,
+
+        byte[] body
+) {
+}
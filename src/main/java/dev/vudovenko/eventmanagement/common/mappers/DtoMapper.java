@@ -1,6 +1,4 @@
 package dev.vudovenko.eventmanagement.common.mappers;
 
-public interface DtoMapper<Domain, DTO> extends ToDomainMapper<Domain, DTO> {
-
-    DTO toDto(Domain domain);
+public interface DtoMapper<Domain, DTO> extends ToDomainMapper<Domain, DTO>, ToDtoMapper<Domain, DTO> {
 }
@@ -0,0 +1,6 @@
+package dev.vudovenko.eventmanagement.common.mappers;
+
+public interface ToDtoMapper<Domain, DTO> {
+
+    DTO toDto(Domain domain);
+}
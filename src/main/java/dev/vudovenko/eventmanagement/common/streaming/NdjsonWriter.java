@@ -0,0 +1,30 @@
+package dev.vudovenko.eventmanagement.common.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonWriter {
+
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final ObjectMapper objectMapper;
+
+    public <T> Consumer<T> lineWriter(OutputStream outputStream) {
+        return value -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(value));
+                outputStream.write(LINE_SEPARATOR);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,132 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.async;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vudovenko.eventmanagement.common.exceptionHandling.exceptionMessages.ExceptionHandlerMessages;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegistrationCommand;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.AlreadyRegisteredForEventException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventStatusNotAllowedForRegistrationException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.RegistrationCommandNotFoundException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.RegistrationQueueFullException;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.exceptions.EventNotFoundException;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Log4j2
+@Component
+public class AsyncEventRegistrations {
+
+    private static final String CACHE_NAME = "registrationCommands";
+
+    private final EventRegistrationService eventRegistrationService;
+
+    private final boolean enabled;
+    private final List<ExecutorService> partitions;
+    private final Cache<UUID, RegistrationCommand> commands;
+
+    public AsyncEventRegistrations(
+            EventRegistrationService eventRegistrationService,
+            MeterRegistry meterRegistry,
+            @Value("${events.registration.async.enabled}") boolean enabled,
+            @Value("${events.registration.async.partitions}") int partitions,
+            @Value("${events.registration.async.queue-capacity}") int queueCapacity,
+            @Value("${events.registration.async.status-ttl}") Duration statusTtl,
+            @Value("${events.registration.async.status-maximum-size}") long statusMaximumSize
+    ) {
+        this.eventRegistrationService = eventRegistrationService;
+        this.enabled = enabled;
+        this.partitions = IntStream.range(0, enabled ? partitions : 0)
+                .mapToObj(partition -> createPartition(partition, queueCapacity))
+                .toList();
+        this.commands = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, commands, CACHE_NAME);
+    }
+
+    private static ExecutorService createPartition(int partition, int queueCapacity) {
+        return new ThreadPoolExecutor(
+                1,
+                1,
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("registration-partition-" + partition).factory()
+        );
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public RegistrationCommand submit(Long eventId, User user) {
+        RegistrationCommand command = RegistrationCommand.pending(eventId, user.getId());
+        commands.put(command.id(), command);
+
+        try {
+            partitions
+                    .get(Math.floorMod(eventId.hashCode(), partitions.size()))
+                    .execute(() -> execute(command, user));
+        } catch (RejectedExecutionException e) {
+            commands.invalidate(command.id());
+            throw new RegistrationQueueFullException(eventId);
+        }
+
+        return command;
+    }
+
+    private void execute(RegistrationCommand command, User user) {
+        try {
+            eventRegistrationService.registerForEvent(command.eventId(), user);
+            commands.put(command.id(), command.registered());
+        } catch (EventNotFoundException
+                 | AlreadyRegisteredForEventException
+                 | EventStatusNotAllowedForRegistrationException
+                 | InsufficientSeatsException e) {
+            commands.put(command.id(), command.rejected(e.getMessage()));
+            log.info("Registration command with id = {} rejected: {}", command.id(), e.getMessage());
+        } catch (RuntimeException e) {
+            commands.put(command.id(), command.rejected(ExceptionHandlerMessages.SERVER_ERROR.getMessage()));
+            log.error("Registration command with id = {} failed", command.id(), e);
+        }
+    }
+
+    public RegistrationCommand getCommand(UUID commandId, User user) {
+        RegistrationCommand command = commands.getIfPresent(commandId);
+        if (command == null || !command.userId().equals(user.getId())) {
+            throw new RegistrationCommandNotFoundException(commandId);
+        }
+
+        return command;
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        partitions.forEach(ExecutorService::shutdown);
+        for (ExecutorService partition : partitions) {
+            if (!partition.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.warn("Registration partition did not finish pending commands in time");
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.async;
+
+public enum RegistrationCommandStatus {
+    PENDING,
+    REGISTERED,
+    REJECTED
+}
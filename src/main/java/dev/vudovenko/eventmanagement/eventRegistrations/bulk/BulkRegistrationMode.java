@@ -0,0 +1,6 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.bulk;
+
+public enum BulkRegistrationMode {
+    ALL_OR_NOTHING,
+    PARTIAL
+}
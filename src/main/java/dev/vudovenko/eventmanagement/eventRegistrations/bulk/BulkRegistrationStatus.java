@@ -0,0 +1,9 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.bulk;
+
+public enum BulkRegistrationStatus {
+    REGISTERED,
+    ALREADY_REGISTERED,
+    USER_NOT_FOUND,
+    NO_SEATS,
+    SKIPPED
+}
@@ -1,17 +1,37 @@
 package dev.vudovenko.eventmanagement.eventRegistrations.controllers;
 
 import dev.vudovenko.eventmanagement.common.mappers.DtoMapper;
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.common.streaming.NdjsonWriter;
+import dev.vudovenko.eventmanagement.eventRegistrations.async.AsyncEventRegistrations;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.BulkRegistrationResult;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegisteredEventsPage;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegistrationCommand;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.WaitlistPosition;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.BulkRegistrationRequestDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.BulkRegistrationResultDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.RegistrationCommandDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.WaitlistPositionDto;
 import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.controllers.EventController;
 import dev.vudovenko.eventmanagement.events.domain.Event;
 import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.users.domain.User;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -20,20 +40,51 @@ import java.util.List;
 public class EventRegistrationController {
 
     private final EventRegistrationService eventRegistrationService;
+    private final AsyncEventRegistrations asyncEventRegistrations;
     private final DtoMapper<Event, EventDto> eventDtoMapper;
+    private final ToDtoMapper<BulkRegistrationResult, BulkRegistrationResultDto> bulkRegistrationResultDtoMapper;
+    private final ToDtoMapper<WaitlistPosition, WaitlistPositionDto> waitlistPositionDtoMapper;
+    private final ToDtoMapper<RegistrationCommand, RegistrationCommandDto> registrationCommandDtoMapper;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping("/{eventId}")
-    public ResponseEntity<Void> registerForEvent(
+    public ResponseEntity<RegistrationCommandDto> registerForEvent(
             @PathVariable("eventId") Long eventId,
             @AuthenticationPrincipal User user
     ) {
         log.info("Get request for register for event");
 
+        if (asyncEventRegistrations.isEnabled()) {
+            RegistrationCommand registrationCommand = asyncEventRegistrations.submit(eventId, user);
+            URI statusUri = ServletUriComponentsBuilder
+                    .fromCurrentContextPath()
+                    .path("/events/registrations/commands/{commandId}")
+                    .buildAndExpand(registrationCommand.id())
+                    .toUri();
+
+            return ResponseEntity
+                    .accepted()
+                    .location(statusUri)
+                    .body(registrationCommandDtoMapper.toDto(registrationCommand));
+        }
+
         eventRegistrationService.registerForEvent(eventId, user);
 
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/commands/{commandId}")
+    public ResponseEntity<RegistrationCommandDto> getRegistrationCommand(
+            @PathVariable("commandId") UUID commandId,
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for get registration command");
+
+        RegistrationCommand registrationCommand = asyncEventRegistrations.getCommand(commandId, user);
+
+        return ResponseEntity.ok(registrationCommandDtoMapper.toDto(registrationCommand));
+    }
+
     @DeleteMapping("/cancel/{eventId}")
     public ResponseEntity<Void> cancelRegistration(
             @PathVariable("eventId") Long eventId,
@@ -46,19 +97,126 @@ public class EventRegistrationController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/waitlist/{eventId}")
+    public ResponseEntity<WaitlistPositionDto> joinWaitlist(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for join waitlist");
+
+        WaitlistPosition waitlistPosition = eventRegistrationService.joinWaitlist(eventId, user);
+
+        return ResponseEntity.ok(waitlistPositionDtoMapper.toDto(waitlistPosition));
+    }
+
+    @GetMapping("/waitlist/{eventId}")
+    public ResponseEntity<WaitlistPositionDto> getWaitlistPosition(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for get waitlist position");
+
+        WaitlistPosition waitlistPosition = eventRegistrationService.getWaitlistPosition(eventId, user);
+
+        return ResponseEntity.ok(waitlistPositionDtoMapper.toDto(waitlistPosition));
+    }
+
+    @DeleteMapping("/waitlist/{eventId}")
+    public ResponseEntity<Void> leaveWaitlist(
+            @PathVariable("eventId") Long eventId,
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for leave waitlist");
+
+        eventRegistrationService.leaveWaitlist(eventId, user);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{eventId}/bulk")
+    public ResponseEntity<List<BulkRegistrationResultDto>> registerForEventInBulk(
+            @PathVariable("eventId") Long eventId,
+            @Valid @RequestBody BulkRegistrationRequestDto bulkRegistrationRequestDto
+    ) {
+        log.info("Get request for bulk register for event");
+
+        List<BulkRegistrationResult> results = eventRegistrationService.registerForEventInBulk(
+                eventId,
+                bulkRegistrationRequestDto.userIds(),
+                bulkRegistrationRequestDto.mode()
+        );
+
+        return ResponseEntity.ok(
+                results
+                        .stream()
+                        .map(bulkRegistrationResultDtoMapper::toDto)
+                        .toList()
+        );
+    }
+
+    @PutMapping("/hot/{eventId}")
+    public ResponseEntity<Void> enableHotEventMode(
+            @PathVariable("eventId") Long eventId
+    ) {
+        log.info("Get request for enable hot event mode");
+
+        eventRegistrationService.enableHotEventMode(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/hot/{eventId}")
+    public ResponseEntity<Void> disableHotEventMode(
+            @PathVariable("eventId") Long eventId
+    ) {
+        log.info("Get request for disable hot event mode");
+
+        eventRegistrationService.disableHotEventMode(eventId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     @GetMapping("/my")
     public ResponseEntity<List<EventDto>> getMyRegistrations(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            @RequestParam(name = "upcoming", defaultValue = "false") boolean upcomingOnly,
+            @RequestParam(name = "status", required = false) EventStatus status,
+            @RequestParam(name = "pageSize", required = false) Integer pageSize,
+            @RequestParam(name = "pageToken", required = false) String pageToken
     ) {
         log.info("Get request for get my registrations");
 
-        List<Event> events = eventRegistrationService.getEventsInWhichUserIsRegistered(user);
+        RegisteredEventsPage registeredEventsPage = eventRegistrationService.getEventDtosInWhichUserIsRegistered(
+                user,
+                upcomingOnly,
+                status,
+                pageSize,
+                pageToken
+        );
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (registeredEventsPage.nextPageToken() != null) {
+            response.header(EventController.NEXT_PAGE_TOKEN_HEADER, registeredEventsPage.nextPageToken());
+        }
+
+        return response.body(registeredEventsPage.events());
+    }
 
-        List<EventDto> eventDtos = events
-                .stream()
-                .map(eventDtoMapper::toDto)
-                .toList();
+    @GetMapping(value = "/my", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyRegistrations(
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for stream my registrations");
 
-        return ResponseEntity.ok(eventDtos);
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> {
+                    Consumer<EventDto> lineWriter = ndjsonWriter.lineWriter(outputStream);
+                    eventRegistrationService.streamEventsInWhichUserIsRegistered(
+                            user,
+                            event -> lineWriter.accept(eventDtoMapper.toDto(event))
+                    );
+                });
     }
 }
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationStatus;
+
+public record BulkRegistrationResult(
+
+        Long userId,
+
+        BulkRegistrationStatus status
+) {
+}
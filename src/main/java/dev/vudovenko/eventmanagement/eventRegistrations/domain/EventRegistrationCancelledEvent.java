@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+public record EventRegistrationCancelledEvent(
+
+        Long eventId,
+
+        Long userId,
+
+        Long promotedUserId
+) {
+}
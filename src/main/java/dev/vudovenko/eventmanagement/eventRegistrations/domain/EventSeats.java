@@ -0,0 +1,13 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+
+public record EventSeats(
+
+        int maxPlaces,
+
+        int occupiedPlaces,
+
+        EventStatus status
+) {
+}
@@ -0,0 +1,7 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+public record EventWaitlistChangedEvent(
+
+        Long eventId
+) {
+}
@@ -0,0 +1,38 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+import dev.vudovenko.eventmanagement.events.exceptions.InvalidPageTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+public record RegisteredEventsCursor(
+
+        Long eventId
+) {
+
+    private static final String SEPARATOR = "|";
+    private static final String TOKEN_TYPE = "REGISTERED_EVENTS";
+
+    public String encode() {
+        String rawToken = String.join(SEPARATOR, TOKEN_TYPE, eventId.toString());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static RegisteredEventsCursor decode(String token) {
+        try {
+            String rawToken = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = rawToken.split(Pattern.quote(SEPARATOR));
+            if (parts.length != 2 || !parts[0].equals(TOKEN_TYPE)) {
+                throw new InvalidPageTokenException(token);
+            }
+
+            return new RegisteredEventsCursor(Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageTokenException(token);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+
+import java.util.List;
+
+public record RegisteredEventsPage(
+
+        List<EventDto> events,
+
+        String nextPageToken
+) {
+}
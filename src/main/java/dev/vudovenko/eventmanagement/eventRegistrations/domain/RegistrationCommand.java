@@ -0,0 +1,31 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.async.RegistrationCommandStatus;
+
+import java.util.UUID;
+
+public record RegistrationCommand(
+
+        UUID id,
+
+        Long eventId,
+
+        Long userId,
+
+        RegistrationCommandStatus status,
+
+        String message
+) {
+
+    public static RegistrationCommand pending(Long eventId, Long userId) {
+        return new RegistrationCommand(UUID.randomUUID(), eventId, userId, RegistrationCommandStatus.PENDING, null);
+    }
+
+    public RegistrationCommand registered() {
+        return new RegistrationCommand(id, eventId, userId, RegistrationCommandStatus.REGISTERED, null);
+    }
+
+    public RegistrationCommand rejected(String message) {
+        return new RegistrationCommand(id, eventId, userId, RegistrationCommandStatus.REJECTED, message);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.domain;
+
+public record WaitlistPosition(
+
+        Long eventId,
+
+        boolean registered,
+
+        Integer position
+) {
+
+    public static WaitlistPosition registered(Long eventId) {
+        return new WaitlistPosition(eventId, true, null);
+    }
+
+    public static WaitlistPosition waiting(Long eventId, int position) {
+        return new WaitlistPosition(eventId, false, position);
+    }
+}
@@ -0,0 +1,19 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.dto;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationMode;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkRegistrationRequestDto(
+
+        @NotEmpty
+        @Size(max = 500)
+        List<@NotNull Long> userIds,
+
+        @NotNull
+        BulkRegistrationMode mode
+) {
+}
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.dto;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationStatus;
+
+public record BulkRegistrationResultDto(
+
+        Long userId,
+
+        BulkRegistrationStatus status
+) {
+}
@@ -0,0 +1,17 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.dto;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.async.RegistrationCommandStatus;
+
+import java.util.UUID;
+
+public record RegistrationCommandDto(
+
+        UUID commandId,
+
+        Long eventId,
+
+        RegistrationCommandStatus status,
+
+        String message
+) {
+}
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.dto;
+
+public record WaitlistPositionDto(
+
+        Long eventId,
+
+        boolean registered,
+
+        Integer position
+) {
+}
@@ -1,5 +1,6 @@
 package dev.vudovenko.eventmanagement.eventRegistrations.entities;
 
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationIdGenerator;
 import dev.vudovenko.eventmanagement.events.entity.EventEntity;
 import dev.vudovenko.eventmanagement.users.entity.UserEntity;
 import jakarta.persistence.*;
@@ -15,7 +16,12 @@ import lombok.*;
 public class EventRegistrationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_registrations_seq")
+    @SequenceGenerator(
+            name = "event_registrations_seq",
+            sequenceName = "event_registrations_seq",
+            allocationSize = EventRegistrationIdGenerator.ALLOCATION_SIZE
+    )
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,13 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.exceptions;
+
+import java.util.UUID;
+
+public class RegistrationCommandNotFoundException extends RuntimeException {
+
+    public static final String MESSAGE_TEMPLATE
+            = "Registration command with id %s not found";
+
+    public RegistrationCommandNotFoundException(UUID commandId) {
+        super(MESSAGE_TEMPLATE.formatted(commandId));
+    }
+}
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.exceptions;
+
+public class RegistrationQueueFullException extends RuntimeException {
+
+    public static final String MESSAGE_TEMPLATE
+            = "Registration queue for event with id = %d is full. Try again later.";
+
+    public RegistrationQueueFullException(Long eventId) {
+        super(MESSAGE_TEMPLATE.formatted(eventId));
+    }
+}
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.exceptions;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+
+    public static final String MESSAGE_TEMPLATE
+            = "User with id %d is not in the waitlist for event with id %d";
+
+    public WaitlistEntryNotFoundException(Long userId, Long eventId) {
+        super(MESSAGE_TEMPLATE.formatted(userId, eventId));
+    }
+}
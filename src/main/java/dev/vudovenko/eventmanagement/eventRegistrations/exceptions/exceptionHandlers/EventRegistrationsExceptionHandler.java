@@ -7,6 +7,9 @@ import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.AlreadyRegist
 import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventRegistrationNotFoundException;
 import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventStatusNotAllowedForRegistrationCancellationException;
 import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventStatusNotAllowedForRegistrationException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.RegistrationCommandNotFoundException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.RegistrationQueueFullException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.WaitlistEntryNotFoundException;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -82,4 +85,52 @@ public class EventRegistrationsExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(errorDto);
     }
+
+    @ExceptionHandler(value = WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ErrorMessageResponse> handleWaitlistEntryNotFoundException(
+            WaitlistEntryNotFoundException e
+    ) {
+        log.error("Got waitlist entry not found exception", e);
+
+        ErrorMessageResponse errorDto = ErrorMessageResponse.of(
+                ExceptionHandlerMessages.WAITLIST_ENTRY_NOT_FOUND.getMessage(),
+                e.getMessage()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(errorDto);
+    }
+
+    @ExceptionHandler(value = RegistrationQueueFullException.class)
+    public ResponseEntity<ErrorMessageResponse> handleRegistrationQueueFullException(
+            RegistrationQueueFullException e
+    ) {
+        log.error("Got registration queue full exception", e);
+
+        ErrorMessageResponse errorDto = ErrorMessageResponse.of(
+                ExceptionHandlerMessages.REGISTRATION_QUEUE_FULL.getMessage(),
+                e.getMessage()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(errorDto);
+    }
+
+    @ExceptionHandler(value = RegistrationCommandNotFoundException.class)
+    public ResponseEntity<ErrorMessageResponse> handleRegistrationCommandNotFoundException(
+            RegistrationCommandNotFoundException e
+    ) {
+        log.error("Got registration command not found exception", e);
+
+        ErrorMessageResponse errorDto = ErrorMessageResponse.of(
+                ExceptionHandlerMessages.REGISTRATION_COMMAND_NOT_FOUND.getMessage(),
+                e.getMessage()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(errorDto);
+    }
 }
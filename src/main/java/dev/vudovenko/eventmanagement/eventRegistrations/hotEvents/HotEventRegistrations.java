@@ -0,0 +1,324 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.hotEvents;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventRegistrationCancelledEvent;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventSeats;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.AlreadyRegisteredForEventException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventStatusNotAllowedForRegistrationException;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationBatchRepository;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.exceptions.EventNotFoundException;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Счетчик живет в памяти одного экземпляра: регистрации, не записанные в БД, теряются при падении приложения
+ */
+@Log4j2
+@Component
+public class HotEventRegistrations {
+
+    private static final String REJECTED_REGISTRATIONS_METRIC = "event.registration.hot.rejected";
+
+    private static final Set<EventStatus> REGISTRATION_STATUSES = EnumSet.of(
+            EventStatus.WAIT_START,
+            EventStatus.STARTED
+    );
+
+    private final EventRegistrationBatchRepository eventRegistrationBatchRepository;
+    private final EventRepository eventRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int stripes;
+    private final int maxFlushAttempts;
+    private final Counter skippedRegistrations;
+    private final Counter droppedRegistrations;
+
+    private final Map<Long, HotEventSeats> hotEvents = new ConcurrentHashMap<>();
+
+    public HotEventRegistrations(
+            EventRegistrationBatchRepository eventRegistrationBatchRepository,
+            EventRepository eventRepository,
+            ApplicationEventPublisher applicationEventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${events.registration.hot-events.stripes}") int stripes,
+            @Value("${events.registration.hot-events.flush-max-attempts}") int maxFlushAttempts
+    ) {
+        this.eventRegistrationBatchRepository = eventRegistrationBatchRepository;
+        this.eventRepository = eventRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.stripes = stripes;
+        this.maxFlushAttempts = maxFlushAttempts;
+        this.skippedRegistrations = Counter.builder(REJECTED_REGISTRATIONS_METRIC)
+                .tag("reason", "skipped")
+                .register(meterRegistry);
+        this.droppedRegistrations = Counter.builder(REJECTED_REGISTRATIONS_METRIC)
+                .tag("reason", "dropped")
+                .register(meterRegistry);
+    }
+
+    public synchronized void enable(Long eventId) {
+        disable(eventId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            EventSeats eventSeats = eventRegistrationBatchRepository
+                    .lockAndRecountOccupiedPlaces(eventId)
+                    .orElseThrow(() -> new EventNotFoundException(eventId));
+            if (!REGISTRATION_STATUSES.contains(eventSeats.status())) {
+                throw new EventStatusNotAllowedForRegistrationException(eventId, eventSeats.status());
+            }
+
+            hotEvents.put(
+                    eventId,
+                    new HotEventSeats(
+                            Math.max(eventSeats.maxPlaces() - eventSeats.occupiedPlaces(), 0),
+                            stripes,
+                            eventRepository.getEventParticipants(eventId)
+                    )
+            );
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+        });
+        log.info("Hot registration mode enabled for event with id = {}", eventId);
+    }
+
+    public synchronized void disable(Long eventId) {
+        HotEventSeats seats = hotEvents.get(eventId);
+        if (seats == null) {
+            return;
+        }
+
+        Lock writeLock = seats.lock().writeLock();
+        writeLock.lock();
+        try {
+            seats.deactivate();
+            flush(eventId, seats);
+            hotEvents.remove(eventId);
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("Hot registration mode disabled for event with id = {}", eventId);
+    }
+
+    public Optional<Integer> suspendUntilTransactionCompletes(Long eventId) {
+        if (!isEnabled(eventId)) {
+            return Optional.empty();
+        }
+
+        disable(eventId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                reload(eventId);
+            }
+        });
+
+        return eventRegistrationBatchRepository
+                .lockAndRecountOccupiedPlaces(eventId)
+                .map(EventSeats::occupiedPlaces);
+    }
+
+    public boolean isEnabled(Long eventId) {
+        return hotEvents.containsKey(eventId);
+    }
+
+    public boolean tryRegister(Long eventId, Long userId) {
+        HotEventSeats seats = hotEvents.get(eventId);
+        if (seats == null) {
+            return false;
+        }
+
+        Lock readLock = seats.lock().readLock();
+        readLock.lock();
+        try {
+            if (!seats.isActive()) {
+                return false;
+            }
+            if (!seats.addParticipant(userId)) {
+                throw new AlreadyRegisteredForEventException(eventId);
+            }
+            if (!seats.tryReserveSeat(userId)) {
+                throw new InsufficientSeatsException(0);
+            }
+
+            return true;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public void flush(Long eventId) {
+        HotEventSeats seats = hotEvents.get(eventId);
+        if (seats != null) {
+            flush(eventId, seats);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(
+            fixedDelayString = "${events.registration.hot-events.flush-interval}",
+            initialDelayString = "${events.registration.hot-events.flush-interval}"
+    )
+    public void flushAll() {
+        hotEvents.forEach(this::flush);
+    }
+
+    private void flush(Long eventId, HotEventSeats seats) {
+        Lock flushLock = seats.flushLock();
+        flushLock.lock();
+        try {
+            List<Long> userIds = seats.drainPending();
+            if (userIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                FlushResult flushResult = transactionTemplate.execute(status -> writeRegistrations(eventId, userIds));
+                seats.resetFailedFlushes();
+                releaseSkippedSeats(eventId, seats, flushResult);
+            } catch (RuntimeException e) {
+                handleFailedFlush(eventId, seats, userIds, e);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private FlushResult writeRegistrations(Long eventId, List<Long> userIds) {
+        Set<Long> insertedUserIds = eventRegistrationBatchRepository.insertNewRegistrations(eventId, userIds);
+        List<Long> registeredUserIds = userIds.stream().filter(insertedUserIds::contains).toList();
+        List<Long> skippedUserIds = userIds.stream().filter(userId -> !insertedUserIds.contains(userId)).toList();
+
+        if (!registeredUserIds.isEmpty()) {
+            eventRegistrationBatchRepository.increaseOccupiedPlaces(eventId, registeredUserIds.size());
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+        }
+
+        return new FlushResult(
+                skippedUserIds,
+                skippedUserIds.isEmpty()
+                        ? Set.of()
+                        : eventRegistrationBatchRepository.findRegisteredUserIds(eventId, skippedUserIds)
+        );
+    }
+
+    private void releaseSkippedSeats(Long eventId, HotEventSeats seats, FlushResult flushResult) {
+        if (flushResult.skippedUserIds().isEmpty()) {
+            return;
+        }
+
+        flushResult.skippedUserIds().forEach(userId -> {
+            if (flushResult.alreadyRegisteredUserIds().contains(userId)) {
+                seats.releaseReservedSeat();
+            } else {
+                seats.releaseSeat(userId);
+            }
+        });
+        skippedRegistrations.increment(flushResult.skippedUserIds().size());
+        log.warn(
+                "Skipped {} registrations for event with id = {}: userIds = {}",
+                flushResult.skippedUserIds().size(),
+                eventId,
+                flushResult.skippedUserIds()
+        );
+    }
+
+    private void handleFailedFlush(Long eventId, HotEventSeats seats, List<Long> userIds, RuntimeException e) {
+        int failedFlushes = seats.recordFailedFlush();
+        if (failedFlushes < maxFlushAttempts) {
+            seats.returnPending(userIds);
+            log.warn(
+                    "Failed to flush {} registrations for event with id = {}, attempt {} of {}",
+                    userIds.size(),
+                    eventId,
+                    failedFlushes,
+                    maxFlushAttempts,
+                    e
+            );
+            return;
+        }
+
+        seats.resetFailedFlushes();
+        userIds.forEach(seats::releaseSeat);
+        droppedRegistrations.increment(userIds.size());
+        log.error(
+                "Dropped {} registrations for event with id = {} after {} failed flushes: userIds = {}",
+                userIds.size(),
+                eventId,
+                failedFlushes,
+                userIds,
+                e
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRegistrationCancelled(EventRegistrationCancelledEvent eventRegistrationCancelledEvent) {
+        HotEventSeats seats = hotEvents.get(eventRegistrationCancelledEvent.eventId());
+        if (seats == null) {
+            return;
+        }
+
+        Lock readLock = seats.lock().readLock();
+        readLock.lock();
+        try {
+            if (!seats.isActive()) {
+                return;
+            }
+            if (eventRegistrationCancelledEvent.promotedUserId() == null) {
+                seats.releaseSeat(eventRegistrationCancelledEvent.userId());
+            } else {
+                seats.replaceParticipant(
+                        eventRegistrationCancelledEvent.userId(),
+                        eventRegistrationCancelledEvent.promotedUserId()
+                );
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedEvent eventsChangedEvent) {
+        eventsChangedEvent.previousVersions()
+                .stream()
+                .map(Event::getId)
+                .filter(hotEvents::containsKey)
+                .forEach(this::reload);
+    }
+
+    private void reload(Long eventId) {
+        try {
+            enable(eventId);
+        } catch (EventNotFoundException | EventStatusNotAllowedForRegistrationException e) {
+            log.info("Hot registration mode disabled for event with id = {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    private record FlushResult(List<Long> skippedUserIds, Set<Long> alreadyRegisteredUserIds) {
+    }
+}
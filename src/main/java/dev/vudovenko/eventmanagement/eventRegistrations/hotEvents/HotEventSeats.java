@@ -0,0 +1,99 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.hotEvents;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+final class HotEventSeats {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock flushLock = new ReentrantLock();
+
+    private final StripedSeatCounter seatCounter;
+    private final Set<Long> participantIds = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> pendingParticipantIds = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean active = true;
+    private int failedFlushes;
+
+    HotEventSeats(int freeSeats, int stripes, Collection<Long> participantIds) {
+        this.seatCounter = new StripedSeatCounter(freeSeats, stripes);
+        this.participantIds.addAll(participantIds);
+    }
+
+    ReadWriteLock lock() {
+        return lock;
+    }
+
+    Lock flushLock() {
+        return flushLock;
+    }
+
+    boolean isActive() {
+        return active;
+    }
+
+    void deactivate() {
+        active = false;
+    }
+
+    boolean addParticipant(Long userId) {
+        return participantIds.add(userId);
+    }
+
+    boolean tryReserveSeat(Long userId) {
+        if (!seatCounter.tryAcquire()) {
+            participantIds.remove(userId);
+            return false;
+        }
+
+        pendingParticipantIds.add(userId);
+        return true;
+    }
+
+    void releaseSeat(Long userId) {
+        if (participantIds.remove(userId)) {
+            seatCounter.release();
+        }
+    }
+
+    void releaseReservedSeat() {
+        seatCounter.release();
+    }
+
+    void replaceParticipant(Long userId, Long newUserId) {
+        participantIds.remove(userId);
+        participantIds.add(newUserId);
+    }
+
+    List<Long> drainPending() {
+        List<Long> pending = new ArrayList<>();
+
+        Long userId;
+        while ((userId = pendingParticipantIds.poll()) != null) {
+            pending.add(userId);
+        }
+
+        return pending;
+    }
+
+    void returnPending(Collection<Long> userIds) {
+        pendingParticipantIds.addAll(userIds);
+    }
+
+    int recordFailedFlush() {
+        return ++failedFlushes;
+    }
+
+    void resetFailedFlushes() {
+        failedFlushes = 0;
+    }
+}
@@ -0,0 +1,45 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.hotEvents;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+final class StripedSeatCounter {
+
+    private static final int PADDING = 16;
+
+    private final int stripes;
+    private final AtomicIntegerArray seats;
+
+    StripedSeatCounter(int freeSeats, int stripes) {
+        this.stripes = stripes;
+        this.seats = new AtomicIntegerArray(stripes * PADDING);
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            seats.set(stripe * PADDING, freeSeats / stripes + (stripe < freeSeats % stripes ? 1 : 0));
+        }
+    }
+
+    boolean tryAcquire() {
+        int firstStripe = currentStripe();
+
+        for (int i = 0; i < stripes; i++) {
+            int index = ((firstStripe + i) % stripes) * PADDING;
+
+            int available;
+            while ((available = seats.get(index)) > 0) {
+                if (seats.compareAndSet(index, available, available - 1)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    void release() {
+        seats.incrementAndGet(currentStripe() * PADDING);
+    }
+
+    private int currentStripe() {
+        return (int) (Thread.currentThread().threadId() % stripes);
+    }
+}
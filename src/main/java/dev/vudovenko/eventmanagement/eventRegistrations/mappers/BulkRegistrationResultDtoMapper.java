@@ -0,0 +1,18 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.mappers;
+
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.BulkRegistrationResult;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.BulkRegistrationResultDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BulkRegistrationResultDtoMapper implements ToDtoMapper<BulkRegistrationResult, BulkRegistrationResultDto> {
+
+    @Override
+    public BulkRegistrationResultDto toDto(BulkRegistrationResult bulkRegistrationResult) {
+        return new BulkRegistrationResultDto(
+                bulkRegistrationResult.userId(),
+                bulkRegistrationResult.status()
+        );
+    }
+}
@@ -0,0 +1,20 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.mappers;
+
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegistrationCommand;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.RegistrationCommandDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RegistrationCommandDtoMapper implements ToDtoMapper<RegistrationCommand, RegistrationCommandDto> {
+
+    @Override
+    public RegistrationCommandDto toDto(RegistrationCommand registrationCommand) {
+        return new RegistrationCommandDto(
+                registrationCommand.id(),
+                registrationCommand.eventId(),
+                registrationCommand.status(),
+                registrationCommand.message()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.mappers;
+
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.WaitlistPosition;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.WaitlistPositionDto;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WaitlistPositionDtoMapper implements ToDtoMapper<WaitlistPosition, WaitlistPositionDto> {
+
+    @Override
+    public WaitlistPositionDto toDto(WaitlistPosition waitlistPosition) {
+        return new WaitlistPositionDto(
+                waitlistPosition.eventId(),
+                waitlistPosition.registered(),
+                waitlistPosition.position()
+        );
+    }
+}
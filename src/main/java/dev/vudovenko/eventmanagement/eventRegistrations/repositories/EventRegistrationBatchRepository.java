@@ -0,0 +1,155 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.repositories;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventSeats;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class EventRegistrationBatchRepository {
+
+    private static final RowMapper<EventSeats> EVENT_SEATS_ROW_MAPPER = (rs, rowNum) -> new EventSeats(
+            rs.getInt("max_places"),
+            rs.getInt("occupied_places"),
+            EventStatus.valueOf(rs.getString("status"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRegistrationIdGenerator eventRegistrationIdGenerator;
+
+    public void insertRegistrations(Long eventId, Collection<Long> userIds) {
+        List<Long> registrationIds = eventRegistrationIdGenerator.nextIds(userIds.size());
+        Iterator<Long> registrationIdIterator = registrationIds.iterator();
+        jdbcTemplate.batchUpdate(
+                """
+                        INSERT INTO "event-registrations" (id, user_id, event_id)
+                        VALUES (?, ?, ?)
+                        """,
+                userIds
+                        .stream()
+                        .map(userId -> new Object[]{registrationIdIterator.next(), userId, eventId})
+                        .toList()
+        );
+        jdbcTemplate.update(
+                """
+                        DELETE FROM "event-waitlist"
+                        WHERE event_id = ?
+                        AND user_id = ANY(?)
+                        """,
+                eventId,
+                userIds.toArray(Long[]::new)
+        );
+    }
+
+    public Set<Long> insertNewRegistrations(Long eventId, Collection<Long> userIds) {
+        Set<Long> insertedUserIds = new HashSet<>(jdbcTemplate.queryForList(
+                """
+                        INSERT INTO "event-registrations" (id, user_id, event_id)
+                        SELECT r.id, r.user_id, ?
+                        FROM unnest(?::bigint[], ?::bigint[]) AS r(id, user_id)
+                        JOIN users u ON u.id = r.user_id
+                        ON CONFLICT (user_id, event_id) DO NOTHING
+                        RETURNING user_id
+                        """,
+                Long.class,
+                eventId,
+                eventRegistrationIdGenerator.nextIds(userIds.size()).toArray(Long[]::new),
+                userIds.toArray(Long[]::new)
+        ));
+        if (!insertedUserIds.isEmpty()) {
+            jdbcTemplate.update(
+                    """
+                            DELETE FROM "event-waitlist"
+                            WHERE event_id = ?
+                            AND user_id = ANY(?)
+                            """,
+                    eventId,
+                    insertedUserIds.toArray(Long[]::new)
+            );
+        }
+
+        return insertedUserIds;
+    }
+
+    public void increaseOccupiedPlaces(Long eventId, int places) {
+        jdbcTemplate.update(
+                """
+                        UPDATE events
+                        SET occupied_places = occupied_places + ?
+                        WHERE id = ?
+                        """,
+                places,
+                eventId
+        );
+    }
+
+    public Optional<EventSeats> lockAndRecountOccupiedPlaces(Long eventId) {
+        List<EventSeats> eventSeats = jdbcTemplate.query(
+                """
+                        UPDATE events e
+                        SET occupied_places = (
+                            SELECT count(*)
+                            FROM "event-registrations" er
+                            WHERE er.event_id = e.id
+                        )
+                        WHERE e.id = ?
+                        RETURNING e.max_places, e.occupied_places, e.status
+                        """,
+                EVENT_SEATS_ROW_MAPPER,
+                eventId
+        );
+
+        return eventSeats.stream().findFirst();
+    }
+
+    public Optional<EventSeats> lockEventSeats(Long eventId) {
+        List<EventSeats> eventSeats = jdbcTemplate.query(
+                """
+                        SELECT e.max_places, e.occupied_places, e.status
+                        FROM events e
+                        WHERE e.id = ?
+                        FOR UPDATE
+                        """,
+                EVENT_SEATS_ROW_MAPPER,
+                eventId
+        );
+
+        return eventSeats.stream().findFirst();
+    }
+
+    public Set<Long> findRegisteredUserIds(Long eventId, Collection<Long> userIds) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                """
+                        SELECT er.user_id
+                        FROM "event-registrations" er
+                        WHERE er.event_id = ?
+                        AND er.user_id = ANY(?)
+                        """,
+                Long.class,
+                eventId,
+                userIds.toArray(Long[]::new)
+        ));
+    }
+
+    public Set<Long> findExistingUserIds(Collection<Long> userIds) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                """
+                        SELECT u.id
+                        FROM users u
+                        WHERE u.id = ANY(?)
+                        """,
+                Long.class,
+                (Object) userIds.toArray(Long[]::new)
+        ));
+    }
+}
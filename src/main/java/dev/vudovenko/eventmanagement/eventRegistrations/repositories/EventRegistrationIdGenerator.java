@@ -0,0 +1,66 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Значение последовательности - верхняя граница блока из ALLOCATION_SIZE id, как в пуле hibernate
+ */
+@Component
+@RequiredArgsConstructor
+public class EventRegistrationIdGenerator {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private long nextId;
+    private long blockHighId = -1;
+
+    public long nextId() {
+        return nextIds(1).getFirst();
+    }
+
+    public List<Long> nextIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        lock.lock();
+        try {
+            takeFromBlock(ids, count);
+            if (ids.size() < count) {
+                int blocks = Math.ceilDiv(count - ids.size(), ALLOCATION_SIZE);
+                for (Long highId : fetchBlockHighIds(blocks)) {
+                    nextId = highId - ALLOCATION_SIZE + 1;
+                    blockHighId = highId;
+                    takeFromBlock(ids, count);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return ids;
+    }
+
+    private void takeFromBlock(List<Long> ids, int count) {
+        while (ids.size() < count && nextId <= blockHighId) {
+            ids.add(nextId++);
+        }
+    }
+
+    private List<Long> fetchBlockHighIds(int blocks) {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT nextval('event_registrations_seq')
+                        FROM generate_series(1, ?)
+                        """,
+                Long.class,
+                blocks
+        );
+    }
+}
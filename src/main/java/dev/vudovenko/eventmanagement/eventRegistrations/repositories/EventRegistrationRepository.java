@@ -1,8 +1,16 @@
 package dev.vudovenko.eventmanagement.eventRegistrations.repositories;
 
 import dev.vudovenko.eventmanagement.eventRegistrations.entities.EventRegistrationEntity;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,9 +18,66 @@ public interface EventRegistrationRepository extends JpaRepository<EventRegistra
 
     Optional<EventRegistrationEntity> findByUserIdAndEventId(Long userId, Long eventId);
 
-    Boolean existsByUserIdAndEventId(Long userId, Long eventId);
+    boolean existsByUserIdAndEventId(Long userId, Long eventId);
 
-    void deleteByUserIdAndEventId(Long userId, Long eventId);
+    @Modifying
+    @Query(
+            """
+                    DELETE FROM EventRegistrationEntity eReg
+                    WHERE eReg.user.id = :userId
+                    AND eReg.event.id = :eventId
+                    """
+    )
+    int deleteByUserIdAndEventId(@Param("userId") Long userId, @Param("eventId") Long eventId);
 
-    List<EventRegistrationEntity> findByUserId(Long userId);
+    @Query(
+            """
+                    SELECT new dev.vudovenko.eventmanagement.events.dto.EventDto(
+                        e.id, e.name, e.owner.id, e.maxPlaces, e.occupiedPlaces,
+                        e.date, e.cost, e.duration, e.location.id, e.status
+                    )
+                    FROM EventRegistrationEntity eReg
+                    JOIN eReg.event e
+                    WHERE eReg.user.id = :userId
+                    AND eReg.event.id > :afterEventId
+                    AND (:status IS NULL OR e.status = :status)
+                    AND (:dateAfter IS NULL OR e.date > :dateAfter)
+                    ORDER BY eReg.event.id
+                    """
+    )
+    List<EventDto> findEventDtosByUserId(
+            @Param("userId") Long userId,
+            @Param("afterEventId") Long afterEventId,
+            @Param("status") EventStatus status,
+            @Param("dateAfter") LocalDateTime dateAfter,
+            Limit limit
+    );
+
+    @Transactional
+    @Query(
+            value = """
+                    WITH reserved_event AS (
+                        UPDATE events e
+                        SET occupied_places = e.occupied_places + 1
+                        WHERE e.id = :eventId
+                        AND e.occupied_places < e.max_places
+                        AND e.status IN ('WAIT_START', 'STARTED')
+                        RETURNING e.id
+                    ), left_waitlist AS (
+                        DELETE FROM "event-waitlist" w
+                        WHERE w.event_id IN (SELECT re.id FROM reserved_event re)
+                        AND w.user_id = :userId
+                    )
+                    INSERT INTO "event-registrations" (id, user_id, event_id)
+                    SELECT :id, :userId, re.id
+                    FROM reserved_event re
+                    RETURNING id
+                    """,
+            nativeQuery = true
+    )
+    Optional<Long> reservePlaceAndRegister(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("eventId") Long eventId
+    );
 }
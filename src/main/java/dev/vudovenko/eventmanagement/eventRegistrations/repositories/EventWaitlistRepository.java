@@ -0,0 +1,108 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class EventWaitlistRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventRegistrationIdGenerator eventRegistrationIdGenerator;
+
+    public boolean add(Long eventId, Long userId) {
+        return jdbcTemplate.update(
+                """
+                        INSERT INTO "event-waitlist" (user_id, event_id)
+                        VALUES (?, ?)
+                        ON CONFLICT (user_id, event_id) DO NOTHING
+                        """,
+                userId,
+                eventId
+        ) > 0;
+    }
+
+    public boolean remove(Long eventId, Long userId) {
+        return jdbcTemplate.update(
+                """
+                        DELETE FROM "event-waitlist"
+                        WHERE event_id = ?
+                        AND user_id = ?
+                        """,
+                eventId,
+                userId
+        ) > 0;
+    }
+
+    public Optional<Long> promoteHead(Long eventId) {
+        return promoteHeads(eventId, 1).stream().findFirst();
+    }
+
+    /**
+     * SKIP LOCKED: строки, взятые параллельным продвижением, пропускаются, поэтому одно место не достается двоим
+     */
+    public List<Long> promoteHeads(Long eventId, int limit) {
+        List<Long> userIds = jdbcTemplate.queryForList(
+                """
+                        WITH heads AS (
+                            SELECT w.id
+                            FROM "event-waitlist" w
+                            WHERE w.event_id = ?
+                            AND NOT EXISTS (
+                                SELECT 1
+                                FROM "event-registrations" er
+                                WHERE er.event_id = w.event_id
+                                AND er.user_id = w.user_id
+                            )
+                            ORDER BY w.id
+                            LIMIT ?
+                            FOR UPDATE SKIP LOCKED
+                        ), promoted AS (
+                            DELETE FROM "event-waitlist" w
+                            USING heads
+                            WHERE w.id = heads.id
+                            RETURNING w.id, w.user_id
+                        )
+                        SELECT p.user_id
+                        FROM promoted p
+                        ORDER BY p.id
+                        """,
+                Long.class,
+                eventId,
+                limit
+        );
+        if (userIds.isEmpty()) {
+            return userIds;
+        }
+
+        jdbcTemplate.update(
+                """
+                        INSERT INTO "event-registrations" (id, user_id, event_id)
+                        SELECT r.id, r.user_id, ?
+                        FROM unnest(?::bigint[], ?::bigint[]) AS r(id, user_id)
+                        """,
+                eventId,
+                eventRegistrationIdGenerator.nextIds(userIds.size()).toArray(Long[]::new),
+                userIds.toArray(Long[]::new)
+        );
+
+        return userIds;
+    }
+
+    public List<Long> findUserIds(Long eventId) {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT w.user_id
+                        FROM "event-waitlist" w
+                        WHERE w.event_id = ?
+                        ORDER BY w.id
+                        """,
+                Long.class,
+                eventId
+        );
+    }
+}
@@ -1,20 +1,52 @@
 package dev.vudovenko.eventmanagement.eventRegistrations.services;
 
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationMode;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.BulkRegistrationResult;
 import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventRegistration;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegisteredEventsPage;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.WaitlistPosition;
 import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.users.domain.User;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventRegistrationService {
 
     void registerForEvent(Long eventId, User user);
 
+    List<BulkRegistrationResult> registerForEventInBulk(
+            Long eventId,
+            List<Long> userIds,
+            BulkRegistrationMode mode
+    );
+
     EventRegistration findByUserIdAndEventId(Long userId, Long eventId);
 
     boolean isUserRegisteredForEvent(Long userId, Long eventId);
 
     void cancelRegistration(Long eventId, User user);
 
-    List<Event> getEventsInWhichUserIsRegistered(User user);
+    WaitlistPosition joinWaitlist(Long eventId, User user);
+
+    void leaveWaitlist(Long eventId, User user);
+
+    List<Long> promoteFromWaitlist(Long eventId);
+
+    WaitlistPosition getWaitlistPosition(Long eventId, User user);
+
+    void enableHotEventMode(Long eventId);
+
+    void disableHotEventMode(Long eventId);
+
+    RegisteredEventsPage getEventDtosInWhichUserIsRegistered(
+            User user,
+            boolean upcomingOnly,
+            EventStatus status,
+            Integer pageSize,
+            String pageToken
+    );
+
+    void streamEventsInWhichUserIsRegistered(User user, Consumer<Event> eventConsumer);
 }
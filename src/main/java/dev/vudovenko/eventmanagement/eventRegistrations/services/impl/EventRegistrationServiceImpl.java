@@ -1,69 +1,363 @@
 package dev.vudovenko.eventmanagement.eventRegistrations.services.impl;
 
 import dev.vudovenko.eventmanagement.common.mappers.EntityMapper;
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationMode;
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationStatus;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.BulkRegistrationResult;
 import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventRegistration;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventRegistrationCancelledEvent;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventSeats;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventWaitlistChangedEvent;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegisteredEventsCursor;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegisteredEventsPage;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.WaitlistPosition;
 import dev.vudovenko.eventmanagement.eventRegistrations.entities.EventRegistrationEntity;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.AlreadyRegisteredForEventException;
 import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventRegistrationNotFoundException;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.WaitlistEntryNotFoundException;
+import dev.vudovenko.eventmanagement.eventRegistrations.hotEvents.HotEventRegistrations;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationBatchRepository;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationIdGenerator;
 import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationRepository;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventWaitlistRepository;
 import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
 import dev.vudovenko.eventmanagement.eventRegistrations.services.validations.EventRegistrationValidationService;
+import dev.vudovenko.eventmanagement.eventRegistrations.waitlist.EventWaitlistQueues;
+import dev.vudovenko.eventmanagement.events.changes.mappers.EventChangeDtoMapper;
+import dev.vudovenko.eventmanagement.events.changes.senders.EventChangeSender;
 import dev.vudovenko.eventmanagement.events.domain.Event;
-import dev.vudovenko.eventmanagement.events.entity.EventEntity;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.exceptions.EventNotFoundException;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.repositories.EventStreamRepository;
 import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.users.domain.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class EventRegistrationServiceImpl implements EventRegistrationService {
 
+    private static final Set<EventStatus> REGISTRATION_STATUSES = EnumSet.of(
+            EventStatus.WAIT_START,
+            EventStatus.STARTED
+    );
+
     private final EventService eventService;
 
     private final EventRegistrationRepository eventRegistrationRepository;
+    private final EventRegistrationBatchRepository eventRegistrationBatchRepository;
+    private final EventRegistrationIdGenerator eventRegistrationIdGenerator;
+    private final EventWaitlistRepository eventWaitlistRepository;
+    private final EventRepository eventRepository;
+    private final EventStreamRepository eventStreamRepository;
 
     private final EventRegistrationValidationService eventRegistrationValidationService;
+    private final HotEventRegistrations hotEventRegistrations;
+    private final EventWaitlistQueues eventWaitlistQueues;
+
+    private final EventChangeSender eventChangeSender;
+    private final EventChangeDtoMapper eventChangeDtoMapper;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private final EntityMapper<EventRegistration, EventRegistrationEntity> eventRegistrationEntityMapper;
-    private final EntityMapper<Event, EventEntity> eventEntityMapper;
 
-    @Transactional
+    @Value("${events.registration.my.page-size.default}")
+    private int defaultRegisteredEventsPageSize;
+    @Value("${events.registration.my.page-size.max}")
+    private int maxRegisteredEventsPageSize;
+
+    /**
+     * Без общей транзакции, чтобы регистрация на горячее мероприятие не занимала соединение с БД
+     */
     @Override
     public void registerForEvent(Long eventId, User user) {
+        if (hotEventRegistrations.tryRegister(eventId, user.getId())) {
+            return;
+        }
+
+        Optional<Long> registrationId;
+        try {
+            registrationId = eventRegistrationRepository.reservePlaceAndRegister(
+                    eventRegistrationIdGenerator.nextId(),
+                    user.getId(),
+                    eventId
+            );
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyRegisteredForEventException(eventId);
+        }
+
+        if (registrationId.isEmpty()) {
+            throwRegistrationRejection(eventId, user);
+        }
+
+        applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+    }
+
+    private void throwRegistrationRejection(Long eventId, User user) {
         Event event = eventService.findById(eventId);
 
         eventRegistrationValidationService.checkReRegistration(eventId, user);
         eventRegistrationValidationService.checkThatEventStatusAllowsRegistration(event);
-        eventRegistrationValidationService.checkAvailabilityPlace(event);
 
-        EventRegistration eventRegistration = new EventRegistration(
-                null,
-                user,
-                event
+        throw new InsufficientSeatsException(
+                Math.max(event.getMaxPlaces() - event.getOccupiedPlaces(), 0)
         );
+    }
+
+    @Override
+    public void cancelRegistration(Long eventId, User user) {
+        hotEventRegistrations.flush(eventId);
+        transactionTemplate.executeWithoutResult(status -> cancelFlushedRegistration(eventId, user));
+    }
 
-        eventRegistrationRepository.save(
-                eventRegistrationEntityMapper.toEntity(eventRegistration)
+    private void cancelFlushedRegistration(Long eventId, User user) {
+        EventSeats eventSeats = eventRegistrationBatchRepository
+                .lockEventSeats(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        if (eventRegistrationRepository.deleteByUserIdAndEventId(user.getId(), eventId) == 0) {
+            throw new EventRegistrationNotFoundException(user.getId(), eventId);
+        }
+        eventRegistrationValidationService.checkThatEventStatusAllowsCancelRegistration(eventId, eventSeats.status());
+
+        Optional<Long> promotedUserId = REGISTRATION_STATUSES.contains(eventSeats.status())
+                ? eventWaitlistRepository.promoteHead(eventId)
+                : Optional.empty();
+        if (promotedUserId.isPresent()) {
+            applicationEventPublisher.publishEvent(new EventWaitlistChangedEvent(eventId));
+            sendParticipantsChangedAfterCommit(eventId, user.getId());
+        } else {
+            eventService.decreaseOccupiedPlaces(eventId);
+        }
+
+        applicationEventPublisher.publishEvent(
+                new EventRegistrationCancelledEvent(eventId, user.getId(), promotedUserId.orElse(null))
         );
+    }
+
+    private void sendParticipantsChangedAfterCommit(Long eventId, Long modifiedBy) {
+        eventChangeSender.sendEventsAfterCommit(List.of(
+                eventChangeDtoMapper.toDto(
+                        eventService.findById(eventId),
+                        modifiedBy,
+                        eventService.getEventParticipants(eventId)
+                )
+        ));
+    }
+
+    @Override
+    public WaitlistPosition joinWaitlist(Long eventId, User user) {
+        try {
+            registerForEvent(eventId, user);
+            return WaitlistPosition.registered(eventId);
+        } catch (InsufficientSeatsException e) {
+            boolean registered = Boolean.TRUE.equals(
+                    transactionTemplate.execute(status -> registerOrEnqueue(eventId, user.getId()))
+            );
+            if (registered) {
+                return WaitlistPosition.registered(eventId);
+            }
+        }
+
+        return getWaitlistPosition(eventId, user);
+    }
 
-        eventService.increaseOccupiedPlaces(eventId);
+    private boolean registerOrEnqueue(Long eventId, Long userId) {
+        EventSeats eventSeats = eventRegistrationBatchRepository
+                .lockEventSeats(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        eventRegistrationValidationService.checkThatEventStatusAllowsRegistration(eventId, eventSeats.status());
+
+        if (!hotEventRegistrations.isEnabled(eventId)
+                && eventSeats.occupiedPlaces() < eventSeats.maxPlaces()) {
+            eventRegistrationBatchRepository.insertRegistrations(eventId, List.of(userId));
+            eventRegistrationBatchRepository.increaseOccupiedPlaces(eventId, 1);
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+            return true;
+        }
+
+        if (eventWaitlistRepository.add(eventId, userId)) {
+            applicationEventPublisher.publishEvent(new EventWaitlistChangedEvent(eventId));
+        }
+        return false;
     }
 
     @Transactional
     @Override
-    public void cancelRegistration(Long eventId, User user) {
-        Event event = eventService.findById(eventId);
+    public void leaveWaitlist(Long eventId, User user) {
+        if (!eventWaitlistRepository.remove(eventId, user.getId())) {
+            throw new WaitlistEntryNotFoundException(user.getId(), eventId);
+        }
 
-        eventRegistrationValidationService.checkIfThereIsRegistrationForEvent(eventId, user);
-        eventRegistrationValidationService.checkThatEventStatusAllowsCancelRegistration(event);
+        applicationEventPublisher.publishEvent(new EventWaitlistChangedEvent(eventId));
+    }
 
-        eventRegistrationRepository.deleteByUserIdAndEventId(user.getId(), eventId);
-        eventService.decreaseOccupiedPlaces(eventId);
+    @Override
+    public List<Long> promoteFromWaitlist(Long eventId) {
+        return withHotEventModeSuspended(
+                eventId,
+                () -> transactionTemplate.execute(status -> promoteToFreePlaces(eventId))
+        );
     }
 
+    private List<Long> promoteToFreePlaces(Long eventId) {
+        Optional<EventSeats> eventSeats = eventRegistrationBatchRepository.lockEventSeats(eventId);
+        if (eventSeats.isEmpty() || !REGISTRATION_STATUSES.contains(eventSeats.get().status())) {
+            return List.of();
+        }
+
+        int freeSeats = eventSeats.get().maxPlaces() - eventSeats.get().occupiedPlaces();
+        if (freeSeats <= 0) {
+            return List.of();
+        }
+
+        List<Long> promotedUserIds = eventWaitlistRepository.promoteHeads(eventId, freeSeats);
+        if (!promotedUserIds.isEmpty()) {
+            eventRegistrationBatchRepository.increaseOccupiedPlaces(eventId, promotedUserIds.size());
+            applicationEventPublisher.publishEvent(new EventWaitlistChangedEvent(eventId));
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+            sendParticipantsChangedAfterCommit(eventId, null);
+        }
+
+        return promotedUserIds;
+    }
+
+    @Override
+    public WaitlistPosition getWaitlistPosition(Long eventId, User user) {
+        OptionalInt position = eventWaitlistQueues.getPosition(eventId, user.getId());
+        if (position.isPresent()) {
+            return WaitlistPosition.waiting(eventId, position.getAsInt());
+        }
+        if (eventRegistrationRepository.existsByUserIdAndEventId(user.getId(), eventId)) {
+            return WaitlistPosition.registered(eventId);
+        }
+
+        throw new WaitlistEntryNotFoundException(user.getId(), eventId);
+    }
+
+    @Override
+    public void enableHotEventMode(Long eventId) {
+        hotEventRegistrations.enable(eventId);
+    }
+
+    @Override
+    public void disableHotEventMode(Long eventId) {
+        hotEventRegistrations.disable(eventId);
+    }
+
+
+    @Override
+    public List<BulkRegistrationResult> registerForEventInBulk(
+            Long eventId,
+            List<Long> userIds,
+            BulkRegistrationMode mode
+    ) {
+        return withHotEventModeSuspended(
+                eventId,
+                () -> transactionTemplate.execute(status -> registerInBulk(eventId, userIds, mode))
+        );
+    }
+
+    private <T> T withHotEventModeSuspended(Long eventId, Supplier<T> registration) {
+        if (!hotEventRegistrations.isEnabled(eventId)) {
+            return registration.get();
+        }
+
+        hotEventRegistrations.disable(eventId);
+        T result;
+        try {
+            result = registration.get();
+        } catch (RuntimeException e) {
+            try {
+                hotEventRegistrations.enable(eventId);
+            } catch (RuntimeException enableException) {
+                e.addSuppressed(enableException);
+            }
+            throw e;
+        }
+
+        try {
+            hotEventRegistrations.enable(eventId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to enable hot registration mode again for event with id = {}", eventId, e);
+        }
+
+        return result;
+    }
+
+    private List<BulkRegistrationResult> registerInBulk(
+            Long eventId,
+            List<Long> userIds,
+            BulkRegistrationMode mode
+    ) {
+        EventSeats eventSeats = eventRegistrationBatchRepository
+                .lockEventSeats(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        eventRegistrationValidationService.checkThatEventStatusAllowsRegistration(eventId, eventSeats.status());
+
+        List<Long> distinctUserIds = userIds.stream().distinct().toList();
+        Set<Long> existingUserIds = eventRegistrationBatchRepository.findExistingUserIds(distinctUserIds);
+        Set<Long> registeredUserIds = eventRegistrationBatchRepository.findRegisteredUserIds(eventId, distinctUserIds);
+        int freeSeats = Math.max(eventSeats.maxPlaces() - eventSeats.occupiedPlaces(), 0);
+
+        Map<Long, BulkRegistrationStatus> statuses = new LinkedHashMap<>();
+        List<Long> userIdsToRegister = new ArrayList<>();
+        for (Long userId : distinctUserIds) {
+            if (!existingUserIds.contains(userId)) {
+                statuses.put(userId, BulkRegistrationStatus.USER_NOT_FOUND);
+            } else if (registeredUserIds.contains(userId)) {
+                statuses.put(userId, BulkRegistrationStatus.ALREADY_REGISTERED);
+            } else if (userIdsToRegister.size() < freeSeats) {
+                statuses.put(userId, BulkRegistrationStatus.REGISTERED);
+                userIdsToRegister.add(userId);
+            } else {
+                statuses.put(userId, BulkRegistrationStatus.NO_SEATS);
+            }
+        }
+
+        if (mode == BulkRegistrationMode.ALL_OR_NOTHING && userIdsToRegister.size() < distinctUserIds.size()) {
+            userIdsToRegister.forEach(userId -> statuses.put(userId, BulkRegistrationStatus.SKIPPED));
+            userIdsToRegister.clear();
+        }
+
+        if (!userIdsToRegister.isEmpty()) {
+            eventRegistrationBatchRepository.insertRegistrations(eventId, userIdsToRegister);
+            eventRegistrationBatchRepository.increaseOccupiedPlaces(eventId, userIdsToRegister.size());
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+        }
+
+        return statuses.entrySet()
+                .stream()
+                .map(entry -> new BulkRegistrationResult(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
     @Override
     public EventRegistration findByUserIdAndEventId(Long userId, Long eventId) {
@@ -80,16 +374,40 @@ public class EventRegistrationServiceImpl implements EventRegistrationService {
     }
 
     @Override
-    public List<Event> getEventsInWhichUserIsRegistered(User user) {
-        List<EventEntity> eventEntities = eventRegistrationRepository
-                .findByUserId(user.getId())
-                .stream()
-                .map(EventRegistrationEntity::getEvent)
-                .toList();
+    public RegisteredEventsPage getEventDtosInWhichUserIsRegistered(
+            User user,
+            boolean upcomingOnly,
+            EventStatus status,
+            Integer pageSize,
+            String pageToken
+    ) {
+        int limit = pageSize == null
+                ? defaultRegisteredEventsPageSize
+                : Math.clamp(pageSize, 1, maxRegisteredEventsPageSize);
 
-        return eventEntities
-                .stream()
-                .map(eventEntityMapper::toDomain)
-                .toList();
+        List<EventDto> eventDtos = eventRegistrationRepository.findEventDtosByUserId(
+                user.getId(),
+                pageToken == null ? 0 : RegisteredEventsCursor.decode(pageToken).eventId(),
+                status,
+                upcomingOnly ? LocalDateTime.now() : null,
+                Limit.of(limit + 1)
+        );
+
+        String nextPageToken = eventDtos.size() > limit
+                ? new RegisteredEventsCursor(eventDtos.get(limit - 1).id()).encode()
+                : null;
+
+        return new RegisteredEventsPage(
+                eventDtos.subList(0, Math.min(limit, eventDtos.size())),
+                nextPageToken
+        );
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamEventsInWhichUserIsRegistered(User user, Consumer<Event> eventConsumer) {
+        try (Stream<Event> events = eventStreamRepository.streamByParticipantId(user.getId())) {
+            events.forEach(eventConsumer);
+        }
     }
 }
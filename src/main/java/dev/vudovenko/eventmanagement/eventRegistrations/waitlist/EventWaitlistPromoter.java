@@ -0,0 +1,28 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.waitlist;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.EventMaxPlacesIncreasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EventWaitlistPromoter {
+
+    private final EventRegistrationService eventRegistrationService;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaxPlacesIncreased(EventMaxPlacesIncreasedEvent eventMaxPlacesIncreasedEvent) {
+        Long eventId = eventMaxPlacesIncreasedEvent.eventId();
+
+        List<Long> promotedUserIds = eventRegistrationService.promoteFromWaitlist(eventId);
+        if (!promotedUserIds.isEmpty()) {
+            log.info("Promoted {} users from waitlist of event with id = {}", promotedUserIds.size(), eventId);
+        }
+    }
+}
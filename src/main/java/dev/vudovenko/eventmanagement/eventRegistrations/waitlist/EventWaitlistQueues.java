@@ -0,0 +1,60 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.waitlist;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.EventWaitlistChangedEvent;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventWaitlistRepository;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalInt;
+
+@Component
+public class EventWaitlistQueues {
+
+    private static final String CACHE_NAME = "eventWaitlist";
+
+    private final EventWaitlistRepository eventWaitlistRepository;
+
+    private final Cache<Long, List<Long>> queues;
+
+    public EventWaitlistQueues(
+            EventWaitlistRepository eventWaitlistRepository,
+            MeterRegistry meterRegistry,
+            @Value("${events.registration.waitlist.cache.maximum-size}") long maximumSize,
+            @Value("${events.registration.waitlist.cache.expire-after-write}") Duration expireAfterWrite
+    ) {
+        this.eventWaitlistRepository = eventWaitlistRepository;
+        this.queues = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, queues, CACHE_NAME);
+    }
+
+    public OptionalInt getPosition(Long eventId, Long userId) {
+        int index = queues
+                .get(eventId, eventWaitlistRepository::findUserIds)
+                .indexOf(userId);
+
+        return index < 0 ? OptionalInt.empty() : OptionalInt.of(index + 1);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWaitlistChanged(EventWaitlistChangedEvent eventWaitlistChangedEvent) {
+        queues.invalidate(eventWaitlistChangedEvent.eventId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedEvent eventsChangedEvent) {
+        queues.invalidateAll(eventsChangedEvent.eventIds());
+    }
+}
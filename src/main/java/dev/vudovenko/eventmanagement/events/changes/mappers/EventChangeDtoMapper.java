@@ -66,4 +66,20 @@ public class EventChangeDtoMapper {
                 participants
         );
     }
+
+    public EventChangeDto toDto(Event event, Long modifiedBy, List<Long> participants) {
+        return new EventChangeDto(
+                event.getId(),
+                modifiedBy,
+                event.getOwner().getId(),
+                new FieldChange<>(event.getName(), event.getName()),
+                new FieldChange<>(event.getMaxPlaces(), event.getMaxPlaces()),
+                new FieldChange<>(event.getDate(), event.getDate()),
+                new FieldChange<>(event.getCost(), event.getCost()),
+                new FieldChange<>(event.getDuration(), event.getDuration()),
+                new FieldChange<>(event.getLocation().getId(), event.getLocation().getId()),
+                new FieldChange<>(event.getStatus(), event.getStatus()),
+                participants
+        );
+    }
 }
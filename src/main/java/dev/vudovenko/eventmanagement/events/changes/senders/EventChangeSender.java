@@ -6,7 +6,10 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 @Log4j2
@@ -26,4 +29,48 @@ public class EventChangeSender {
 
         result.thenAccept(sendResult -> log.info("Send successful"));
     }
+
+    public void sendEvents(List<EventChangeDto> eventChangeDTOs) {
+        if (eventChangeDTOs.isEmpty()) {
+            return;
+        }
+
+        log.info("Sending {} events", eventChangeDTOs.size());
+        CompletableFuture<?>[] results = eventChangeDTOs
+                .stream()
+                .map(eventChangeDTO -> kafkaTemplate.send(
+                        "events-changes-topic",
+                        eventChangeDTO.eventId(),
+                        eventChangeDTO
+                ))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(results).whenComplete((ignored, e) -> {
+            if (e == null) {
+                log.info("Send of {} events successful", results.length);
+            } else {
+                log.error("Failed to send some of {} events", results.length, e);
+            }
+        });
+    }
+
+    /**
+     * Отправляет после коммита, чтобы при откате транзакции уведомления не ушли
+     */
+    public void sendEventsAfterCommit(List<EventChangeDto> eventChangeDTOs) {
+        if (eventChangeDTOs.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sendEvents(eventChangeDTOs);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendEvents(eventChangeDTOs);
+            }
+        });
+    }
 }
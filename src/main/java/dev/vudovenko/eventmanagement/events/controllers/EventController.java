@@ -2,9 +2,16 @@ package dev.vudovenko.eventmanagement.events.controllers;
 
 import dev.vudovenko.eventmanagement.common.mappers.DtoMapper;
 import dev.vudovenko.eventmanagement.common.mappers.ToDomainMapper;
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.common.streaming.NdjsonWriter;
 import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchPage;
 import dev.vudovenko.eventmanagement.events.dto.EventCreateRequestDto;
 import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.dto.EventSearchFacetsDto;
 import dev.vudovenko.eventmanagement.events.dto.EventSearchRequestDto;
 import dev.vudovenko.eventmanagement.events.dto.EventUpdateRequestDto;
 import dev.vudovenko.eventmanagement.events.services.EventService;
@@ -14,11 +21,15 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.OutputStream;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Log4j2
 @RequiredArgsConstructor
@@ -26,10 +37,14 @@ import java.util.List;
 @RequestMapping("/events")
 public class EventController {
 
+    public static final String NEXT_PAGE_TOKEN_HEADER = "X-Next-Page-Token";
+
     private final EventService eventService;
     private final ToDomainMapper<Event, EventCreateRequestDto> createRequestDtoMapper;
     private final ToDomainMapper<Event, EventUpdateRequestDto> updateRequestDtoMapper;
     private final DtoMapper<Event, EventDto> eventDtoMapper;
+    private final ToDtoMapper<EventSearchFacets, EventSearchFacetsDto> eventSearchFacetsDtoMapper;
+    private final NdjsonWriter ndjsonWriter;
 
     @PostMapping
     public ResponseEntity<EventDto> createEvent(
@@ -65,11 +80,11 @@ public class EventController {
     ) {
         log.info("Get request for get event");
 
-        Event event = eventService.findById(eventId);
+        EventDto eventDto = eventService.findDtoById(eventId);
 
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(eventDtoMapper.toDto(event));
+                .body(eventDto);
     }
 
     @PutMapping("/{eventId}")
@@ -93,7 +108,67 @@ public class EventController {
     ) {
         log.info("Get request for search events");
 
-        List<Event> events = eventService.searchEvents(
+        EventSearchPage eventSearchPage = eventService.searchEvents(
+                toSearchFilter(eventSearchRequestDto),
+                eventSearchRequestDto.sort(),
+                eventSearchRequestDto.pageSize(),
+                eventSearchRequestDto.pageToken()
+        );
+
+        List<EventDto> eventDtos = eventSearchPage.events()
+                .stream()
+                .map(eventDtoMapper::toDto)
+                .toList();
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (eventSearchPage.nextPageToken() != null) {
+            response.header(NEXT_PAGE_TOKEN_HEADER, eventSearchPage.nextPageToken());
+        }
+
+        return response.body(eventDtos);
+    }
+
+    @PostMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @Valid @RequestBody EventSearchRequestDto eventSearchRequestDto
+    ) {
+        log.info("Get request for stream events");
+
+        EventSearchFilter filter = toSearchFilter(eventSearchRequestDto);
+        EventSearchCursor cursor = eventService.decodePageToken(
+                filter,
+                eventSearchRequestDto.sort(),
+                eventSearchRequestDto.pageToken()
+        );
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> eventService.streamEvents(
+                        filter,
+                        eventSearchRequestDto.sort(),
+                        cursor,
+                        toEventDtoLines(outputStream)
+                ));
+    }
+
+    @PostMapping("/search/facets")
+    public ResponseEntity<EventSearchFacetsDto> getSearchFacets(
+            @Valid @RequestBody EventSearchRequestDto eventSearchRequestDto,
+            @RequestParam(name = "approximate", defaultValue = "false") boolean approximate
+    ) {
+        log.info("Get request for get search facets");
+
+        EventSearchFacets eventSearchFacets = eventService.getSearchFacets(
+                toSearchFilter(eventSearchRequestDto),
+                approximate
+        );
+
+        return ResponseEntity.ok(eventSearchFacetsDtoMapper.toDto(eventSearchFacets));
+    }
+
+    private EventSearchFilter toSearchFilter(EventSearchRequestDto eventSearchRequestDto) {
+        return new EventSearchFilter(
                 eventSearchRequestDto.name(),
                 eventSearchRequestDto.placesMin(),
                 eventSearchRequestDto.placesMax(),
@@ -104,15 +179,9 @@ public class EventController {
                 eventSearchRequestDto.durationMin(),
                 eventSearchRequestDto.durationMax(),
                 eventSearchRequestDto.locationId(),
-                eventSearchRequestDto.eventStatus()
+                eventSearchRequestDto.eventStatus(),
+                eventSearchRequestDto.nameSearchMode()
         );
-
-        List<EventDto> eventDtos = events
-                .stream()
-                .map(eventDtoMapper::toDto)
-                .toList();
-
-        return ResponseEntity.ok(eventDtos);
     }
 
     @GetMapping("/my")
@@ -121,13 +190,26 @@ public class EventController {
     ) {
         log.info("Get request for get my events");
 
-        List<Event> events = eventService.getUserEvents(user);
-
-        List<EventDto> eventDtos = events
-                .stream()
-                .map(eventDtoMapper::toDto)
-                .toList();
+        List<EventDto> eventDtos = eventService.getUserEventDtos(user);
 
         return ResponseEntity.ok(eventDtos);
     }
+
+    @GetMapping(value = "/my", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyEvents(
+            @AuthenticationPrincipal User user
+    ) {
+        log.info("Get request for stream my events");
+
+        return ResponseEntity
+                .ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> eventService.streamUserEvents(user, toEventDtoLines(outputStream)));
+    }
+
+    private Consumer<Event> toEventDtoLines(OutputStream outputStream) {
+        Consumer<EventDto> lineWriter = ndjsonWriter.lineWriter(outputStream);
+
+        return event -> lineWriter.accept(eventDtoMapper.toDto(event));
+    }
 }
@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+public record EventFacetRange(
+
+        Integer from,
+
+        Integer to,
+
+        long count
+) {
+}
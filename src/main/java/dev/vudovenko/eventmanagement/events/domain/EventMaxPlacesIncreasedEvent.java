@@ -0,0 +1,7 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+public record EventMaxPlacesIncreasedEvent(
+
+        Long eventId
+) {
+}
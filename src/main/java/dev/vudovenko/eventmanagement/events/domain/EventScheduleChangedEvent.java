@@ -0,0 +1,7 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+public record EventScheduleChangedEvent(
+
+        Event event
+) {
+}
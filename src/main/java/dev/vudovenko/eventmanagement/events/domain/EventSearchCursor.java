@@ -0,0 +1,62 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import dev.vudovenko.eventmanagement.events.exceptions.InvalidPageTokenException;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+public record EventSearchCursor(
+
+        EventSearchSort sort,
+
+        LocalDateTime date,
+
+        Float rank,
+
+        Long id
+) {
+
+    private static final String SEPARATOR = "|";
+
+    public static EventSearchCursor byDate(LocalDateTime date, Long id) {
+        return new EventSearchCursor(EventSearchSort.DATE, date, null, id);
+    }
+
+    public static EventSearchCursor byRelevance(float rank, Long id) {
+        return new EventSearchCursor(EventSearchSort.RELEVANCE, null, rank, id);
+    }
+
+    public String encode() {
+        String sortKey = sort == EventSearchSort.DATE
+                ? date.toString()
+                : rank.toString();
+        String rawToken = String.join(SEPARATOR, sort.name(), sortKey, id.toString());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(rawToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EventSearchCursor decode(String token) {
+        try {
+            String rawToken = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = rawToken.split(Pattern.quote(SEPARATOR));
+            if (parts.length != 3) {
+                throw new InvalidPageTokenException(token);
+            }
+
+            EventSearchSort sort = EventSearchSort.valueOf(parts[0]);
+            Long id = Long.parseLong(parts[2]);
+
+            return sort == EventSearchSort.DATE
+                    ? byDate(LocalDateTime.parse(parts[1]), id)
+                    : byRelevance(Float.parseFloat(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageTokenException(token);
+        }
+    }
+}
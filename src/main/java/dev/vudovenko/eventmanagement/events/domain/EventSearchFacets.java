@@ -0,0 +1,22 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record EventSearchFacets(
+
+        long total,
+
+        boolean approximate,
+
+        Map<EventStatus, Long> statuses,
+
+        Map<Long, Long> locations,
+
+        List<EventFacetRange> costs,
+
+        List<EventFacetRange> durations
+) {
+}
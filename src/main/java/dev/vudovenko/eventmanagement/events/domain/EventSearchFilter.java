@@ -0,0 +1,92 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+
+import java.time.LocalDateTime;
+
+public record EventSearchFilter(
+
+        String name,
+
+        Integer placesMin,
+
+        Integer placesMax,
+
+        LocalDateTime dateStartAfter,
+
+        LocalDateTime dateStartBefore,
+
+        Integer costMin,
+
+        Integer costMax,
+
+        Integer durationMin,
+
+        Integer durationMax,
+
+        Long locationId,
+
+        EventStatus eventStatus,
+
+        EventNameSearchMode nameSearchMode
+) {
+
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    public EventSearchFilter normalized() {
+        if (!hasName()) {
+            return withName(null, null);
+        }
+
+        return withName(
+                name,
+                nameSearchMode == null ? EventNameSearchMode.SUBSTRING : nameSearchMode
+        );
+    }
+
+    private EventSearchFilter withName(String name, EventNameSearchMode nameSearchMode) {
+        return new EventSearchFilter(
+                name,
+                placesMin,
+                placesMax,
+                dateStartAfter,
+                dateStartBefore,
+                costMin,
+                costMax,
+                durationMin,
+                durationMax,
+                locationId,
+                eventStatus,
+                nameSearchMode
+        );
+    }
+
+    public boolean couldMatch(Event event) {
+        return couldMatchName(event.getName())
+                && isBetween(event.getMaxPlaces(), placesMin, placesMax)
+                && (dateStartAfter == null || !event.getDate().isBefore(dateStartAfter))
+                && (dateStartBefore == null || !event.getDate().isAfter(dateStartBefore))
+                && isBetween(event.getCost(), costMin, costMax)
+                && isBetween(event.getDuration(), durationMin, durationMax)
+                && (locationId == null || locationId.equals(event.getLocation().getId()))
+                && (eventStatus == null || eventStatus == event.getStatus());
+    }
+
+    private boolean couldMatchName(String eventName) {
+        if (!hasName()
+                || nameSearchMode == EventNameSearchMode.FULL_TEXT
+                || name.contains("%")
+                || name.contains("_")) {
+            return true;
+        }
+
+        return eventName.contains(name);
+    }
+
+    private static boolean isBetween(Integer value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+}
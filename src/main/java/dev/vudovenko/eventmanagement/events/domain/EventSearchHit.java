@@ -0,0 +1,9 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+public record EventSearchHit(
+
+        Event event,
+
+        EventSearchCursor cursor
+) {
+}
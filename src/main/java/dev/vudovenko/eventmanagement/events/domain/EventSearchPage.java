@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import java.util.List;
+
+public record EventSearchPage(
+
+        List<Event> events,
+
+        String nextPageToken
+) {
+}
@@ -0,0 +1,19 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import java.time.LocalDateTime;
+
+public record EventTransitionCursor(
+
+        LocalDateTime time,
+
+        Long id
+) {
+
+    public static EventTransitionCursor startOf(Event event) {
+        return new EventTransitionCursor(event.getDate(), event.getId());
+    }
+
+    public static EventTransitionCursor endOf(Event event) {
+        return new EventTransitionCursor(event.getDate().plusMinutes(event.getDuration()), event.getId());
+    }
+}
@@ -0,0 +1,16 @@
+package dev.vudovenko.eventmanagement.events.domain;
+
+import java.util.Collection;
+import java.util.List;
+
+public record EventsChangedEvent(
+
+        Collection<Long> eventIds,
+
+        Collection<Event> previousVersions
+) {
+
+    public EventsChangedEvent(Collection<Long> eventIds) {
+        this(eventIds, List.of());
+    }
+}
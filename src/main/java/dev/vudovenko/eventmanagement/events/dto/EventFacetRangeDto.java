@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.events.dto;
+
+public record EventFacetRangeDto(
+
+        Integer from,
+
+        Integer to,
+
+        long count
+) {
+}
@@ -0,0 +1,22 @@
+package dev.vudovenko.eventmanagement.events.dto;
+
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record EventSearchFacetsDto(
+
+        long total,
+
+        boolean approximate,
+
+        Map<EventStatus, Long> statuses,
+
+        Map<Long, Long> locations,
+
+        List<EventFacetRangeDto> costs,
+
+        List<EventFacetRangeDto> durations
+) {
+}
@@ -1,5 +1,7 @@
 package dev.vudovenko.eventmanagement.events.dto;
 
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
 import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import jakarta.validation.constraints.Min;
 
@@ -33,6 +35,15 @@ public record EventSearchRequestDto(
 
         Long locationId,
 
-        EventStatus eventStatus
+        EventStatus eventStatus,
+
+        EventNameSearchMode nameSearchMode,
+
+        EventSearchSort sort,
+
+        @Min(1)
+        Integer pageSize,
+
+        String pageToken
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package dev.vudovenko.eventmanagement.events.exceptions;
+
+public class InvalidPageTokenException extends RuntimeException {
+
+    public static final String MESSAGE_TEMPLATE = "Page token %s is not valid";
+
+    public InvalidPageTokenException(String pageToken) {
+        super(MESSAGE_TEMPLATE.formatted(pageToken));
+    }
+}
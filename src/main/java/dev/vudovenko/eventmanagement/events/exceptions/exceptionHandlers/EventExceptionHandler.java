@@ -136,4 +136,19 @@ public class EventExceptionHandler {
                 .status(HttpStatus.BAD_REQUEST)
                 .body(errorDto);
     }
+
+    @ExceptionHandler(value = InvalidPageTokenException.class)
+    public ResponseEntity<ErrorMessageResponse> handleInvalidPageTokenException(
+            InvalidPageTokenException e
+    ) {
+        log.error("Got invalid page token exception", e);
+        ErrorMessageResponse errorDto = ErrorMessageResponse.of(
+                ExceptionHandlerMessages.INVALID_PAGE_TOKEN.getMessage(),
+                e.getMessage()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(errorDto);
+    }
 }
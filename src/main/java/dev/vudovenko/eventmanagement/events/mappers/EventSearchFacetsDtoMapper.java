@@ -0,0 +1,33 @@
+package dev.vudovenko.eventmanagement.events.mappers;
+
+import dev.vudovenko.eventmanagement.common.mappers.ToDtoMapper;
+import dev.vudovenko.eventmanagement.events.domain.EventFacetRange;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.dto.EventFacetRangeDto;
+import dev.vudovenko.eventmanagement.events.dto.EventSearchFacetsDto;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class EventSearchFacetsDtoMapper implements ToDtoMapper<EventSearchFacets, EventSearchFacetsDto> {
+
+    @Override
+    public EventSearchFacetsDto toDto(EventSearchFacets eventSearchFacets) {
+        return new EventSearchFacetsDto(
+                eventSearchFacets.total(),
+                eventSearchFacets.approximate(),
+                eventSearchFacets.statuses(),
+                eventSearchFacets.locations(),
+                toDto(eventSearchFacets.costs()),
+                toDto(eventSearchFacets.durations())
+        );
+    }
+
+    private List<EventFacetRangeDto> toDto(List<EventFacetRange> ranges) {
+        return ranges
+                .stream()
+                .map(range -> new EventFacetRangeDto(range.from(), range.to(), range.count()))
+                .toList();
+    }
+}
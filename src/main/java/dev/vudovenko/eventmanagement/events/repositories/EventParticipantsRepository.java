@@ -0,0 +1,42 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class EventParticipantsRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<Long, List<Long>> findParticipantIdsByEventIds(Collection<Long> eventIds) {
+        Map<Long, List<Long>> participantIds = new HashMap<>();
+        if (eventIds.isEmpty()) {
+            return participantIds;
+        }
+
+        jdbcTemplate.query(
+                """
+                        SELECT er.event_id, er.user_id
+                        FROM "event-registrations" er
+                        WHERE er.event_id = ANY(?)
+                        ORDER BY er.event_id, er.user_id
+                        """,
+                rs -> {
+                    participantIds
+                            .computeIfAbsent(rs.getLong("event_id"), eventId -> new ArrayList<>())
+                            .add(rs.getLong("user_id"));
+                },
+                (Object) eventIds.toArray(Long[]::new)
+        );
+
+        return participantIds;
+    }
+}
@@ -0,0 +1,30 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+public class EventRowMapper implements RowMapper<Event> {
+
+    @Override
+    public Event mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Event(
+                rs.getLong("id"),
+                rs.getString("name"),
+                new User(rs.getLong("owner_id")),
+                rs.getInt("max_places"),
+                rs.getInt("occupied_places"),
+                rs.getObject("date", LocalDateTime.class),
+                rs.getInt("cost"),
+                rs.getInt("duration"),
+                new Location(rs.getLong("location_id")),
+                EventStatus.valueOf(rs.getString("status"))
+        );
+    }
+}
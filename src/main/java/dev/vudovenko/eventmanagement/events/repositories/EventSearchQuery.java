@@ -0,0 +1,11 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+public record EventSearchQuery(
+
+        String sql,
+
+        MapSqlParameterSource parameters
+) {
+}
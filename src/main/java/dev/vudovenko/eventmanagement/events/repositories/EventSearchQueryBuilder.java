@@ -0,0 +1,235 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class EventSearchQueryBuilder {
+
+    private static final String SELECT_CLAUSE = """
+            SELECT e.id, e.name, e.owner_id, e.max_places, e.occupied_places,
+                   e.date, e.cost, e.duration, e.location_id, e.status""";
+
+    private static final String FROM_CLAUSE = """
+
+            FROM events e
+            """;
+
+    private final Map<Shape, String> sqlByShape = new ConcurrentHashMap<>();
+    private final Map<FacetShape, String> facetSqlByShape = new ConcurrentHashMap<>();
+
+    @Getter
+    @Value("${events.search.facets.cost-bounds}")
+    private int[] costBounds;
+    @Getter
+    @Value("${events.search.facets.duration-bounds}")
+    private int[] durationBounds;
+
+    public EventSearchQuery build(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            EventSearchCursor cursor,
+            int limit
+    ) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("limit", limit);
+        Set<Condition> conditions = collectFilterConditions(filter, parameters);
+
+        Ranking ranking = Ranking.NONE;
+        if (filter.hasName() && sort == EventSearchSort.RELEVANCE) {
+            ranking = filter.nameSearchMode() == EventNameSearchMode.FULL_TEXT
+                    ? Ranking.TEXT_RANK
+                    : Ranking.SIMILARITY;
+        }
+        if (cursor != null) {
+            parameters.addValue("afterId", cursor.id());
+            if (ranking == Ranking.NONE) {
+                conditions.add(Condition.AFTER_DATE_CURSOR);
+                parameters.addValue("afterDate", cursor.date());
+            } else {
+                conditions.add(Condition.AFTER_RANK_CURSOR);
+                parameters.addValue("afterRank", cursor.rank());
+            }
+        }
+
+        return new EventSearchQuery(
+                sqlByShape.computeIfAbsent(new Shape(conditions, ranking), this::toSql),
+                parameters
+        );
+    }
+
+    public EventSearchQuery buildFacets(EventSearchFilter filter, Double samplePercent) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource();
+        Set<Condition> conditions = collectFilterConditions(filter, parameters);
+        if (samplePercent != null) {
+            parameters.addValue("samplePercent", samplePercent);
+        }
+
+        return new EventSearchQuery(
+                facetSqlByShape.computeIfAbsent(
+                        new FacetShape(conditions, samplePercent != null),
+                        this::toFacetSql
+                ),
+                parameters
+        );
+    }
+
+    private Set<Condition> collectFilterConditions(EventSearchFilter filter, MapSqlParameterSource parameters) {
+        Set<Condition> conditions = EnumSet.noneOf(Condition.class);
+
+        if (filter.hasName()) {
+            parameters.addValue("name", filter.name());
+            if (filter.nameSearchMode() == EventNameSearchMode.FULL_TEXT) {
+                conditions.add(Condition.NAME_FULL_TEXT);
+            } else {
+                conditions.add(Condition.NAME_SUBSTRING);
+                parameters.addValue("namePattern", "%" + filter.name() + "%");
+            }
+        }
+        addIfPresent(conditions, parameters, Condition.PLACES_MIN, "placesMin", filter.placesMin());
+        addIfPresent(conditions, parameters, Condition.PLACES_MAX, "placesMax", filter.placesMax());
+        addIfPresent(conditions, parameters, Condition.DATE_START_AFTER, "dateStartAfter", filter.dateStartAfter());
+        addIfPresent(conditions, parameters, Condition.DATE_START_BEFORE, "dateStartBefore", filter.dateStartBefore());
+        addIfPresent(conditions, parameters, Condition.COST_MIN, "costMin", filter.costMin());
+        addIfPresent(conditions, parameters, Condition.COST_MAX, "costMax", filter.costMax());
+        addIfPresent(conditions, parameters, Condition.DURATION_MIN, "durationMin", filter.durationMin());
+        addIfPresent(conditions, parameters, Condition.DURATION_MAX, "durationMax", filter.durationMax());
+        addIfPresent(conditions, parameters, Condition.LOCATION, "locationId", filter.locationId());
+        if (filter.eventStatus() != null) {
+            conditions.add(Condition.STATUS);
+            parameters.addValue("eventStatus", filter.eventStatus().name());
+        }
+
+        return conditions;
+    }
+
+    private void addIfPresent(
+            Set<Condition> conditions,
+            MapSqlParameterSource parameters,
+            Condition condition,
+            String parameterName,
+            Object value
+    ) {
+        if (value != null) {
+            conditions.add(condition);
+            parameters.addValue(parameterName, value);
+        }
+    }
+
+    private String toSql(Shape shape) {
+        StringBuilder sql = new StringBuilder(SELECT_CLAUSE);
+        if (shape.ranking() != Ranking.NONE) {
+            sql.append(", ").append(shape.ranking().getSql()).append(" AS rank");
+        }
+        sql.append(FROM_CLAUSE);
+        sql.append(toWhereClause(shape.conditions(), shape.ranking()));
+        sql.append(
+                shape.ranking() == Ranking.NONE
+                        ? "ORDER BY e.date, e.id\n"
+                        : "ORDER BY rank DESC, e.id\n"
+        );
+        sql.append("LIMIT :limit\n");
+
+        return sql.toString();
+    }
+
+    private String toFacetSql(FacetShape shape) {
+        String costBucket = "width_bucket(e.cost, " + toSqlArray(costBounds) + ")";
+        String durationBucket = "width_bucket(e.duration, " + toSqlArray(durationBounds) + ")";
+
+        return """
+                SELECT GROUPING(e.status, e.location_id, %1$s, %2$s) AS grouping_mask,
+                       e.status, e.location_id, %1$s AS cost_bucket, %2$s AS duration_bucket,
+                       COUNT(*) AS events_count
+                FROM events e%3$s
+                %4$sGROUP BY GROUPING SETS ((), (e.status), (e.location_id), (%1$s), (%2$s))
+                """.formatted(
+                costBucket,
+                durationBucket,
+                shape.sampled() ? " TABLESAMPLE SYSTEM (:samplePercent)" : "",
+                toWhereClause(shape.conditions(), Ranking.NONE)
+        );
+    }
+
+    private String toWhereClause(Set<Condition> conditions, Ranking ranking) {
+        if (conditions.isEmpty()) {
+            return "";
+        }
+
+        return conditions
+                .stream()
+                .map(condition -> condition.getSql().formatted(ranking.getSql()))
+                .collect(Collectors.joining("\nAND ", "WHERE ", "\n"));
+    }
+
+    private static String toSqlArray(int[] values) {
+        return Arrays.stream(values)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(", ", "ARRAY[", "]"));
+    }
+
+    private record Shape(
+
+            Set<Condition> conditions,
+
+            Ranking ranking
+    ) {
+    }
+
+    private record FacetShape(
+
+            Set<Condition> conditions,
+
+            boolean sampled
+    ) {
+    }
+
+    @Getter
+    private enum Ranking {
+        NONE(""),
+        SIMILARITY("similarity(e.name, :name)"),
+        TEXT_RANK("ts_rank(e.name_tsv, websearch_to_tsquery('simple', :name), 1)");
+
+        private final String sql;
+
+        Ranking(String sql) {
+            this.sql = sql;
+        }
+    }
+
+    @Getter
+    private enum Condition {
+        NAME_SUBSTRING("e.name LIKE :namePattern"),
+        NAME_FULL_TEXT("e.name_tsv @@ websearch_to_tsquery('simple', :name)"),
+        PLACES_MIN("e.max_places >= :placesMin"),
+        PLACES_MAX("e.max_places <= :placesMax"),
+        DATE_START_AFTER("e.date >= :dateStartAfter"),
+        DATE_START_BEFORE("e.date <= :dateStartBefore"),
+        COST_MIN("e.cost >= :costMin"),
+        COST_MAX("e.cost <= :costMax"),
+        DURATION_MIN("e.duration >= :durationMin"),
+        DURATION_MAX("e.duration <= :durationMax"),
+        LOCATION("e.location_id = :locationId"),
+        STATUS("e.status = :eventStatus"),
+        AFTER_DATE_CURSOR("(e.date, e.id) > (:afterDate, :afterId)"),
+        AFTER_RANK_CURSOR("(%1$s < :afterRank OR (%1$s = :afterRank AND e.id > :afterId))");
+
+        private final String sql;
+
+        Condition(String sql) {
+            this.sql = sql;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventFacetRange;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchHit;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class EventSearchRepository {
+
+    private static final EventRowMapper EVENT_ROW_MAPPER = new EventRowMapper();
+
+    private static final String SELECT_EVENTS = """
+            SELECT e.id, e.name, e.owner_id, e.max_places, e.occupied_places,
+                   e.date, e.cost, e.duration, e.location_id, e.status
+            FROM events e
+            """;
+
+    private static final int GROUPED_BY_STATUS = 0b0111;
+    private static final int GROUPED_BY_LOCATION = 0b1011;
+    private static final int GROUPED_BY_COST = 0b1101;
+    private static final int GROUPED_BY_DURATION = 0b1110;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EventSearchQueryBuilder eventSearchQueryBuilder;
+
+    public List<EventSearchHit> searchEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            EventSearchCursor cursor,
+            int limit
+    ) {
+        EventSearchQuery query = eventSearchQueryBuilder.build(filter, sort, cursor, limit);
+
+        return jdbcTemplate.query(query.sql(), query.parameters(), hitRowMapper(sort));
+    }
+
+    public EventSearchFacets countFacets(EventSearchFilter filter, Double samplePercent) {
+        EventSearchQuery query = eventSearchQueryBuilder.buildFacets(filter, samplePercent);
+        double scale = samplePercent == null ? 1 : 100 / samplePercent;
+
+        Map<EventStatus, Long> statuses = new EnumMap<>(EventStatus.class);
+        Map<Long, Long> locations = new TreeMap<>();
+        Map<Integer, Long> costBuckets = new TreeMap<>();
+        Map<Integer, Long> durationBuckets = new TreeMap<>();
+        long[] total = new long[1];
+
+        jdbcTemplate.query(query.sql(), query.parameters(), rs -> {
+            long count = Math.round(rs.getLong("events_count") * scale);
+            switch (rs.getInt("grouping_mask")) {
+                case GROUPED_BY_STATUS -> statuses.put(EventStatus.valueOf(rs.getString("status")), count);
+                case GROUPED_BY_LOCATION -> locations.put(rs.getLong("location_id"), count);
+                case GROUPED_BY_COST -> costBuckets.put(rs.getInt("cost_bucket"), count);
+                case GROUPED_BY_DURATION -> durationBuckets.put(rs.getInt("duration_bucket"), count);
+                default -> total[0] = count;
+            }
+        });
+
+        return new EventSearchFacets(
+                total[0],
+                samplePercent != null,
+                statuses,
+                locations,
+                toRanges(costBuckets, eventSearchQueryBuilder.getCostBounds()),
+                toRanges(durationBuckets, eventSearchQueryBuilder.getDurationBounds())
+        );
+    }
+
+    public long estimateEventCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT reltuples::bigint FROM pg_class WHERE oid = 'events'::regclass",
+                new MapSqlParameterSource(),
+                Long.class
+        );
+    }
+
+    private List<EventFacetRange> toRanges(Map<Integer, Long> countsByBucket, int[] bounds) {
+        return countsByBucket.entrySet()
+                .stream()
+                .map(entry -> {
+                    int bucket = entry.getKey();
+                    return new EventFacetRange(
+                            bucket == 0 ? null : bounds[bucket - 1],
+                            bucket == bounds.length ? null : bounds[bucket],
+                            entry.getValue()
+                    );
+                })
+                .toList();
+    }
+
+    public List<Event> findAllByStatusIn(Collection<EventStatus> statuses) {
+        return jdbcTemplate.query(
+                SELECT_EVENTS + "WHERE e.status IN (:statuses)",
+                new MapSqlParameterSource(
+                        "statuses",
+                        statuses.stream().map(EventStatus::name).toList()
+                ),
+                EVENT_ROW_MAPPER
+        );
+    }
+
+    public List<Event> findAllByIdIn(Collection<Long> ids) {
+        return jdbcTemplate.query(
+                SELECT_EVENTS + "WHERE e.id IN (:ids)",
+                new MapSqlParameterSource("ids", ids),
+                EVENT_ROW_MAPPER
+        );
+    }
+
+    private RowMapper<EventSearchHit> hitRowMapper(EventSearchSort sort) {
+        return (rs, rowNum) -> {
+            Event event = EVENT_ROW_MAPPER.mapRow(rs, rowNum);
+            EventSearchCursor cursor = sort == EventSearchSort.RELEVANCE
+                    ? EventSearchCursor.byRelevance(rs.getFloat("rank"), event.getId())
+                    : EventSearchCursor.byDate(event.getDate(), event.getId());
+
+            return new EventSearchHit(event, cursor);
+        };
+    }
+}
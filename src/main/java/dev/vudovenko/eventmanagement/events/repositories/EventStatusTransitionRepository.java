@@ -0,0 +1,151 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventTransitionCursor;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+@Repository
+@RequiredArgsConstructor
+public class EventStatusTransitionRepository {
+
+    private static final EventRowMapper EVENT_ROW_MAPPER = new EventRowMapper();
+
+    private static final String END_TIME = "e.date + e.duration * INTERVAL '1 minute'";
+
+    private static final Comparator<EventTransitionCursor> CURSOR_ORDER = Comparator
+            .comparing(EventTransitionCursor::time)
+            .thenComparing(EventTransitionCursor::id);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Event> startEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit) {
+        return transitionEvents(
+                EventStatus.WAIT_START,
+                EventStatus.STARTED,
+                "e.date",
+                EventTransitionCursor::startOf,
+                currentTime,
+                after,
+                limit
+        );
+    }
+
+    public List<Event> finishEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit) {
+        return transitionEvents(
+                EventStatus.STARTED,
+                EventStatus.FINISHED,
+                END_TIME,
+                EventTransitionCursor::endOf,
+                currentTime,
+                after,
+                limit
+        );
+    }
+
+    /**
+     * Статусы подставляются в текст запроса для частичных индексов, а SKIP LOCKED оставляет занятые строки до следующего запуска
+     */
+    private List<Event> transitionEvents(
+            EventStatus fromStatus,
+            EventStatus toStatus,
+            String transitionTime,
+            Function<Event, EventTransitionCursor> cursorOf,
+            LocalDateTime currentTime,
+            EventTransitionCursor after,
+            int limit
+    ) {
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(currentTime);
+        String cursorCondition = "";
+        if (after != null) {
+            cursorCondition = "AND (" + transitionTime + ", e.id) > (?, ?)";
+            parameters.add(after.time());
+            parameters.add(after.id());
+        }
+        parameters.add(limit);
+
+        List<Event> events = jdbcTemplate.query(
+                """
+                        WITH due AS (
+                            SELECT e.id
+                            FROM events e
+                            WHERE e.status = '%3$s'
+                              AND %1$s <= ?
+                              %2$s
+                            ORDER BY %1$s, e.id
+                            LIMIT ?
+                            FOR UPDATE SKIP LOCKED
+                        )
+                        UPDATE events e
+                        SET status = '%4$s'
+                        FROM due
+                        WHERE e.id = due.id
+                        RETURNING e.id, e.name, e.owner_id, e.max_places, e.occupied_places,
+                                  e.date, e.cost, e.duration, e.location_id, e.status
+                        """.formatted(transitionTime, cursorCondition, fromStatus, toStatus),
+                EVENT_ROW_MAPPER,
+                parameters.toArray()
+        );
+
+        return events
+                .stream()
+                .sorted(Comparator.comparing(cursorOf, CURSOR_ORDER))
+                .toList();
+    }
+
+    public long countDueTransitions(LocalDateTime currentTime) {
+        Long count = jdbcTemplate.queryForObject(
+                """
+                        SELECT (SELECT count(*)
+                                FROM events e
+                                WHERE e.status = 'WAIT_START'
+                                  AND e.date <= ?)
+                             + (SELECT count(*)
+                                FROM events e
+                                WHERE e.status = 'STARTED'
+                                  AND %s <= ?)
+                        """.formatted(END_TIME),
+                Long.class,
+                currentTime,
+                currentTime
+        );
+
+        return count == null ? 0 : count;
+    }
+
+    public List<LocalDateTime> findTransitionTimesBefore(LocalDateTime until) {
+        return jdbcTemplate.queryForList(
+                """
+                        SELECT e.date
+                        FROM events e
+                        WHERE e.status = 'WAIT_START'
+                          AND e.date < ?
+                        UNION
+                        SELECT %1$s
+                        FROM events e
+                        WHERE e.status = 'WAIT_START'
+                          AND e.date < ?
+                          AND %1$s < ?
+                        UNION
+                        SELECT %1$s
+                        FROM events e
+                        WHERE e.status = 'STARTED'
+                          AND %1$s < ?
+                        """.formatted(END_TIME),
+                LocalDateTime.class,
+                until,
+                until,
+                until,
+                until
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.stream.Stream;
+
+@Repository
+public class EventStreamRepository {
+
+    private static final EventRowMapper EVENT_ROW_MAPPER = new EventRowMapper();
+
+    private static final String SELECT_EVENTS = """
+            SELECT e.id, e.name, e.owner_id, e.max_places, e.occupied_places,
+                   e.date, e.cost, e.duration, e.location_id, e.status
+            FROM events e
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EventSearchQueryBuilder eventSearchQueryBuilder;
+
+    public EventStreamRepository(
+            DataSource dataSource,
+            EventSearchQueryBuilder eventSearchQueryBuilder,
+            @Value("${events.streaming.fetch-size}") int fetchSize
+    ) {
+        JdbcTemplate fetchingJdbcTemplate = new JdbcTemplate(dataSource);
+        fetchingJdbcTemplate.setFetchSize(fetchSize);
+
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(fetchingJdbcTemplate);
+        this.eventSearchQueryBuilder = eventSearchQueryBuilder;
+    }
+
+    public Stream<Event> streamEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            EventSearchCursor cursor
+    ) {
+        EventSearchQuery query = eventSearchQueryBuilder.build(filter, sort, cursor, Integer.MAX_VALUE);
+
+        return jdbcTemplate.queryForStream(query.sql(), query.parameters(), EVENT_ROW_MAPPER);
+    }
+
+    public Stream<Event> streamByOwnerId(Long ownerId) {
+        return jdbcTemplate.queryForStream(
+                SELECT_EVENTS + """
+                        WHERE e.owner_id = :ownerId
+                        ORDER BY e.date, e.id
+                        """,
+                new MapSqlParameterSource("ownerId", ownerId),
+                EVENT_ROW_MAPPER
+        );
+    }
+
+    public Stream<Event> streamByParticipantId(Long participantId) {
+        return jdbcTemplate.queryForStream(
+                SELECT_EVENTS + """
+                        JOIN "event-registrations" r ON r.event_id = e.id
+                        WHERE r.user_id = :participantId
+                        ORDER BY e.date, e.id
+                        """,
+                new MapSqlParameterSource("participantId", participantId),
+                EVENT_ROW_MAPPER
+        );
+    }
+}
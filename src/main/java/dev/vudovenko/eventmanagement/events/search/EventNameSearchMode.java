@@ -0,0 +1,6 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+public enum EventNameSearchMode {
+    SUBSTRING,
+    FULL_TEXT
+}
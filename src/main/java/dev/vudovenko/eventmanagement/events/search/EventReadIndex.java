@@ -0,0 +1,138 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchHit;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.repositories.EventSearchRepository;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class EventReadIndex {
+
+    private static final Set<EventStatus> INDEXED_STATUSES = EnumSet.of(
+            EventStatus.WAIT_START,
+            EventStatus.STARTED
+    );
+
+    private final EventSearchRepository eventSearchRepository;
+
+    private final Set<Long> pendingEventIds = ConcurrentHashMap.newKeySet();
+    private final Lock updateLock = new ReentrantLock();
+
+    @Value("${events.search.read-index.enabled}")
+    private boolean enabled;
+
+    private volatile EventReadIndexSnapshot snapshot;
+
+    public Optional<List<EventSearchHit>> search(
+            EventSearchFilter filter,
+            EventSearchCursor cursor,
+            int limit
+    ) {
+        if (filter.hasName()
+                || !INDEXED_STATUSES.contains(filter.eventStatus())
+                || !tryApplyPendingChanges()) {
+            return Optional.empty();
+        }
+
+        EventReadIndexSnapshot currentSnapshot = snapshot;
+        if (currentSnapshot == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(currentSnapshot.search(filter, cursor, limit));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            fixedDelayString = "${events.search.read-index.refresh-interval}",
+            initialDelayString = "${events.search.read-index.refresh-interval}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        updateLock.lock();
+        try {
+            pendingEventIds.clear();
+            snapshot = new EventReadIndexSnapshot(
+                    eventSearchRepository.findAllByStatusIn(INDEXED_STATUSES)
+            );
+            log.info("Event read index rebuilt with {} events", snapshot.size());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedEvent eventsChangedEvent) {
+        if (snapshot == null || eventsChangedEvent.eventIds().isEmpty()) {
+            return;
+        }
+
+        pendingEventIds.addAll(eventsChangedEvent.eventIds());
+    }
+
+    private boolean tryApplyPendingChanges() {
+        if (pendingEventIds.isEmpty()) {
+            return true;
+        }
+        if (!updateLock.tryLock()) {
+            return false;
+        }
+
+        try {
+            Set<Long> eventIds = drainPendingEventIds();
+            if (snapshot != null && !eventIds.isEmpty()) {
+                snapshot = snapshot.withChanges(
+                        eventIds,
+                        eventSearchRepository.findAllByIdIn(eventIds)
+                                .stream()
+                                .filter(event -> INDEXED_STATUSES.contains(event.getStatus()))
+                                .toList()
+                );
+            }
+
+            return true;
+        } catch (RuntimeException e) {
+            snapshot = null;
+            log.error("Failed to update event read index, search falls back to database until rebuild", e);
+
+            return false;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private Set<Long> drainPendingEventIds() {
+        Set<Long> eventIds = new HashSet<>();
+        for (Iterator<Long> iterator = pendingEventIds.iterator(); iterator.hasNext(); ) {
+            eventIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        return eventIds;
+    }
+}
@@ -0,0 +1,162 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchHit;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+final class EventReadIndexSnapshot {
+
+    private static final Comparator<Event> DATE_ID_ORDER = Comparator
+            .comparing(Event::getDate)
+            .thenComparing(Event::getId);
+
+    private final Event[] events;
+    private final long[] ids;
+    private final long[] dates;
+    private final int[] maxPlaces;
+    private final int[] costs;
+    private final int[] durations;
+
+    private final Map<EventStatus, BitSet> eventsByStatus = new EnumMap<>(EventStatus.class);
+    private final Map<Long, BitSet> eventsByLocation = new HashMap<>();
+
+    EventReadIndexSnapshot(Collection<Event> source) {
+        this(source.stream()
+                .sorted(DATE_ID_ORDER)
+                .toArray(Event[]::new));
+    }
+
+    private EventReadIndexSnapshot(Event[] sortedEvents) {
+        events = sortedEvents;
+
+        int size = events.length;
+        ids = new long[size];
+        dates = new long[size];
+        maxPlaces = new int[size];
+        costs = new int[size];
+        durations = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            Event event = events[i];
+            ids[i] = event.getId();
+            dates[i] = toEpochMicros(event.getDate());
+            maxPlaces[i] = event.getMaxPlaces();
+            costs[i] = event.getCost();
+            durations[i] = event.getDuration();
+
+            eventsByStatus
+                    .computeIfAbsent(event.getStatus(), status -> new BitSet(size))
+                    .set(i);
+            eventsByLocation
+                    .computeIfAbsent(event.getLocation().getId(), locationId -> new BitSet(size))
+                    .set(i);
+        }
+    }
+
+    EventReadIndexSnapshot withChanges(Set<Long> changedIds, Collection<Event> changedEvents) {
+        Event[] sortedChanges = changedEvents.stream()
+                .sorted(DATE_ID_ORDER)
+                .toArray(Event[]::new);
+
+        Event[] merged = new Event[events.length + sortedChanges.length];
+        int size = 0;
+        int change = 0;
+        for (Event event : events) {
+            if (changedIds.contains(event.getId())) {
+                continue;
+            }
+            while (change < sortedChanges.length && DATE_ID_ORDER.compare(sortedChanges[change], event) < 0) {
+                merged[size++] = sortedChanges[change++];
+            }
+            merged[size++] = event;
+        }
+        while (change < sortedChanges.length) {
+            merged[size++] = sortedChanges[change++];
+        }
+
+        return new EventReadIndexSnapshot(Arrays.copyOf(merged, size));
+    }
+
+    int size() {
+        return events.length;
+    }
+
+    List<EventSearchHit> search(EventSearchFilter filter, EventSearchCursor cursor, int limit) {
+        BitSet statusEvents = eventsByStatus.get(filter.eventStatus());
+        BitSet locationEvents = filter.locationId() == null
+                ? null
+                : eventsByLocation.get(filter.locationId());
+        if (statusEvents == null || (filter.locationId() != null && locationEvents == null)) {
+            return List.of();
+        }
+
+        int from = 0;
+        if (filter.dateStartAfter() != null) {
+            from = firstAfter(toEpochMicros(filter.dateStartAfter()), Long.MIN_VALUE);
+        }
+        if (cursor != null) {
+            from = Math.max(from, firstAfter(toEpochMicros(cursor.date()), cursor.id()));
+        }
+        int to = filter.dateStartBefore() == null
+                ? events.length
+                : firstAfter(toEpochMicros(filter.dateStartBefore()), Long.MAX_VALUE);
+
+        List<EventSearchHit> hits = new ArrayList<>(Math.min(limit, events.length));
+        for (int i = statusEvents.nextSetBit(from); i >= 0 && i < to && hits.size() < limit;
+             i = statusEvents.nextSetBit(i + 1)) {
+            if ((locationEvents == null || locationEvents.get(i)) && matches(filter, i)) {
+                Event event = events[i];
+                hits.add(new EventSearchHit(event, EventSearchCursor.byDate(event.getDate(), event.getId())));
+            }
+        }
+
+        return hits;
+    }
+
+    private boolean matches(EventSearchFilter filter, int i) {
+        return isBetween(maxPlaces[i], filter.placesMin(), filter.placesMax())
+                && isBetween(costs[i], filter.costMin(), filter.costMax())
+                && isBetween(durations[i], filter.durationMin(), filter.durationMax());
+    }
+
+    private static boolean isBetween(int value, Integer min, Integer max) {
+        return (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    private int firstAfter(long date, long id) {
+        int low = 0;
+        int high = events.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (dates[middle] < date || (dates[middle] == date && ids[middle] <= id)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Postgres хранит время с точностью до микросекунд, поэтому и сравнение ведется в микросекундах
+     */
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+}
@@ -0,0 +1,109 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchPage;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.repositories.EventSearchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class EventSearchCache {
+
+    private static final String CACHE_NAME = "eventSearch";
+
+    private final EventSearchRepository eventSearchRepository;
+
+    private final boolean enabled;
+    private final Cache<Key, EventSearchPage> cache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public EventSearchCache(
+            EventSearchRepository eventSearchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${events.search.cache.enabled}") boolean enabled,
+            @Value("${events.search.cache.maximum-size}") long maximumSize,
+            @Value("${events.search.cache.expire-after-write}") Duration expireAfterWrite
+    ) {
+        this.eventSearchRepository = eventSearchRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public EventSearchPage get(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            int pageSize,
+            EventSearchCursor cursor,
+            Supplier<EventSearchPage> pageLoader
+    ) {
+        if (!enabled) {
+            return pageLoader.get();
+        }
+
+        Key key = new Key(filter.normalized(), sort, pageSize, cursor);
+        EventSearchPage page = cache.getIfPresent(key);
+        if (page != null) {
+            return page;
+        }
+
+        long invalidationsBeforeLoad = invalidations.get();
+        page = pageLoader.get();
+        if (invalidations.get() == invalidationsBeforeLoad) {
+            cache.put(key, page);
+            if (invalidations.get() != invalidationsBeforeLoad) {
+                cache.invalidate(key);
+            }
+        }
+
+        return page;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChangedEvent eventsChangedEvent) {
+        if (!enabled || eventsChangedEvent.eventIds().isEmpty()) {
+            return;
+        }
+
+        invalidations.incrementAndGet();
+
+        List<Event> affectedVersions = new ArrayList<>(eventsChangedEvent.previousVersions());
+        affectedVersions.addAll(eventSearchRepository.findAllByIdIn(eventsChangedEvent.eventIds()));
+
+        cache.asMap()
+                .keySet()
+                .removeIf(key -> affectedVersions.stream().anyMatch(key.filter()::couldMatch));
+    }
+
+    private record Key(
+
+            EventSearchFilter filter,
+
+            EventSearchSort sort,
+
+            int pageSize,
+
+            EventSearchCursor cursor
+    ) {
+    }
+}
@@ -1,11 +1,18 @@
 package dev.vudovenko.eventmanagement.events.services;
 
 import dev.vudovenko.eventmanagement.events.domain.Event;
-import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchPage;
+import dev.vudovenko.eventmanagement.events.domain.EventTransitionCursor;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
 import dev.vudovenko.eventmanagement.users.domain.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EventService {
 
@@ -17,31 +24,43 @@ public interface EventService {
 
     Event findByIdWithOwner(Long eventId);
 
+    EventDto findDtoById(Long id);
+
     void deleteEvent(Long eventId);
 
     Event updateEvent(Long eventId, Event event);
 
     List<Long> getEventParticipants(Long eventId);
 
-    List<Event> searchEvents(
-            String name,
-            Integer placeMin,
-            Integer placeMax,
-            LocalDateTime dateStartAfter,
-            LocalDateTime dateStartBefore,
-            Integer costMin,
-            Integer costMax,
-            Integer durationMin,
-            Integer durationMax,
-            Long locationId,
-            EventStatus eventStatus
+    EventSearchPage searchEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            Integer pageSize,
+            String pageToken
+    );
+
+    EventSearchCursor decodePageToken(EventSearchFilter filter, EventSearchSort sort, String pageToken);
+
+    void streamEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            EventSearchCursor cursor,
+            Consumer<Event> eventConsumer
     );
 
-    List<Event> getUserEvents(User user);
+    EventSearchFacets getSearchFacets(EventSearchFilter filter, boolean approximate);
+
+    List<EventDto> getUserEventDtos(User user);
+
+    void streamUserEvents(User user, Consumer<Event> eventConsumer);
 
     void increaseOccupiedPlaces(Long eventId);
 
     void decreaseOccupiedPlaces(Long eventId);
 
-    void updateEventStatuses();
+    List<Event> startEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit);
+
+    List<Event> finishEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit);
+
+    long countDueStatusTransitions(LocalDateTime currentTime);
 }
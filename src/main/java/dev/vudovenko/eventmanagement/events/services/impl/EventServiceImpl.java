@@ -1,24 +1,47 @@
 package dev.vudovenko.eventmanagement.events.services.impl;
 
 import dev.vudovenko.eventmanagement.common.mappers.EntityMapper;
+import dev.vudovenko.eventmanagement.eventRegistrations.hotEvents.HotEventRegistrations;
 import dev.vudovenko.eventmanagement.events.changes.mappers.EventChangeDtoMapper;
 import dev.vudovenko.eventmanagement.events.changes.senders.EventChangeSender;
 import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventMaxPlacesIncreasedEvent;
+import dev.vudovenko.eventmanagement.events.domain.EventScheduleChangedEvent;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchHit;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchPage;
+import dev.vudovenko.eventmanagement.events.domain.EventTransitionCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
 import dev.vudovenko.eventmanagement.events.entity.EventEntity;
 import dev.vudovenko.eventmanagement.events.exceptions.EventNotFoundException;
+import dev.vudovenko.eventmanagement.events.exceptions.InvalidPageTokenException;
+import dev.vudovenko.eventmanagement.events.repositories.EventParticipantsRepository;
 import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.repositories.EventSearchRepository;
+import dev.vudovenko.eventmanagement.events.repositories.EventStatusTransitionRepository;
+import dev.vudovenko.eventmanagement.events.repositories.EventStreamRepository;
+import dev.vudovenko.eventmanagement.events.search.EventReadIndex;
+import dev.vudovenko.eventmanagement.events.search.EventSearchCache;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
 import dev.vudovenko.eventmanagement.events.services.EventService;
 import dev.vudovenko.eventmanagement.events.services.validations.EventValidationService;
 import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.security.authentication.AuthenticationService;
 import dev.vudovenko.eventmanagement.users.domain.User;
-import dev.vudovenko.eventmanagement.users.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,12 +53,29 @@ public class EventServiceImpl implements EventService {
     private final EventChangeSender eventChangeSender;
 
     private final EventRepository eventRepository;
+    private final EventSearchRepository eventSearchRepository;
+    private final EventStreamRepository eventStreamRepository;
+    private final EventStatusTransitionRepository eventStatusTransitionRepository;
+    private final EventParticipantsRepository eventParticipantsRepository;
+    private final EventReadIndex eventReadIndex;
+    private final EventSearchCache eventSearchCache;
+    private final HotEventRegistrations hotEventRegistrations;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     private final EntityMapper<Event, EventEntity> eventEntityMapper;
-    private final EntityMapper<User, UserEntity> userEntityMapper;
 
     private final EventChangeDtoMapper eventChangeDtoMapper;
 
+    @Value("${events.search.page-size.default}")
+    private int defaultSearchPageSize;
+    @Value("${events.search.page-size.max}")
+    private int maxSearchPageSize;
+    @Value("${events.search.facets.approximate.min-rows}")
+    private long facetsApproximationMinRows;
+    @Value("${events.search.facets.approximate.sample-rows}")
+    private long facetsSampleRows;
+
     @Transactional
     @Override
     public Event createEvent(Event event) {
@@ -45,8 +85,11 @@ public class EventServiceImpl implements EventService {
         EventEntity createdEvent = eventRepository.save(
                 eventEntityMapper.toEntity(event)
         );
+        Event created = eventEntityMapper.toDomain(createdEvent);
+        publishEventsChanged(List.of(createdEvent.getId()));
+        applicationEventPublisher.publishEvent(new EventScheduleChangedEvent(created));
 
-        return eventEntityMapper.toDomain(createdEvent);
+        return created;
     }
 
     @Override
@@ -70,6 +113,12 @@ public class EventServiceImpl implements EventService {
         return eventEntityMapper.toDomain(eventEntity);
     }
 
+    @Override
+    public EventDto findDtoById(Long id) {
+        return eventRepository.findDtoById(id)
+                .orElseThrow(() -> new EventNotFoundException(id));
+    }
+
     @Transactional
     @Override
     public void deleteEvent(Long eventId) {
@@ -83,6 +132,7 @@ public class EventServiceImpl implements EventService {
         event.setStatus(EventStatus.CANCELLED);
 
         eventRepository.save(eventEntityMapper.toEntity(event));
+        publishEventsChanged(List.of(eventId), List.of(withStatus(event, oldStatus)));
 
         eventChangeSender.sendEvent(
                 eventChangeDtoMapper.toDto(
@@ -101,6 +151,13 @@ public class EventServiceImpl implements EventService {
         initializeFieldsForEventUpdate(event, notUpdatedEvent);
 
         eventValidationService.checkRightsToManageEvent(event);
+        if (event.getMaxPlaces() < notUpdatedEvent.getMaxPlaces()) {
+            hotEventRegistrations.suspendUntilTransactionCompletes(eventId)
+                    .ifPresent(occupiedPlaces -> {
+                        notUpdatedEvent.setOccupiedPlaces(occupiedPlaces);
+                        event.setOccupiedPlaces(occupiedPlaces);
+                    });
+        }
         eventValidationService.checkCorrectnessDate(event);
         eventValidationService.checkAvailabilityLocationPlaces(event);
         eventValidationService.checkThatOccupiedSeatsArePlacedInMaximumPlaces(event, notUpdatedEvent);
@@ -108,6 +165,16 @@ public class EventServiceImpl implements EventService {
         EventEntity createdEvent = eventRepository.save(
                 eventEntityMapper.toEntity(event)
         );
+        Event updated = eventEntityMapper.toDomain(createdEvent);
+        publishEventsChanged(List.of(eventId), List.of(notUpdatedEvent));
+        if (!updated.getDate().equals(notUpdatedEvent.getDate())
+                || !updated.getDuration().equals(notUpdatedEvent.getDuration())
+                || updated.getStatus() != notUpdatedEvent.getStatus()) {
+            applicationEventPublisher.publishEvent(new EventScheduleChangedEvent(updated));
+        }
+        if (updated.getMaxPlaces() > notUpdatedEvent.getMaxPlaces()) {
+            applicationEventPublisher.publishEvent(new EventMaxPlacesIncreasedEvent(eventId));
+        }
 
         eventChangeSender.sendEvent(
                 eventChangeDtoMapper.toDto(
@@ -118,7 +185,7 @@ public class EventServiceImpl implements EventService {
                 )
         );
 
-        return eventEntityMapper.toDomain(createdEvent);
+        return updated;
     }
 
     private void initializeFieldsForEventUpdate(Event event, Event notUpdatedEvent) {
@@ -133,110 +200,214 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public List<Event> searchEvents(
-            String name,
-            Integer placeMin,
-            Integer placeMax,
-            LocalDateTime dateStartAfter,
-            LocalDateTime dateStartBefore,
-            Integer costMin,
-            Integer costMax,
-            Integer durationMin,
-            Integer durationMax,
-            Long locationId,
-            EventStatus eventStatus
+    public EventSearchPage searchEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            Integer pageSize,
+            String pageToken
     ) {
-        List<EventEntity> eventEntities = eventRepository.searchEvents(
-                name,
-                placeMin,
-                placeMax,
-                dateStartAfter,
-                dateStartBefore,
-                costMin,
-                costMax,
-                durationMin,
-                durationMax,
-                locationId,
-                eventStatus
+        int limit = resolvePageSize(pageSize);
+        EventSearchSort effectiveSort = resolveSort(filter, sort);
+        EventSearchCursor cursor = decodePageToken(pageToken, effectiveSort);
+
+        return eventSearchCache.get(
+                filter,
+                effectiveSort,
+                limit,
+                cursor,
+                () -> loadSearchPage(filter, effectiveSort, limit, cursor)
         );
+    }
 
-        return eventEntities
+    private EventSearchPage loadSearchPage(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            int limit,
+            EventSearchCursor cursor
+    ) {
+        List<EventSearchHit> hits = eventReadIndex
+                .search(filter, cursor, limit + 1)
+                .orElseGet(() -> eventSearchRepository.searchEvents(
+                        filter,
+                        sort,
+                        cursor,
+                        limit + 1
+                ));
+
+        List<Event> events = hits
                 .stream()
-                .map(eventEntityMapper::toDomain)
+                .limit(limit)
+                .map(EventSearchHit::event)
                 .toList();
+
+        String nextPageToken = hits.size() > limit
+                ? hits.get(limit - 1).cursor().encode()
+                : null;
+
+        return new EventSearchPage(events, nextPageToken);
+    }
+
+    @Override
+    public EventSearchCursor decodePageToken(EventSearchFilter filter, EventSearchSort sort, String pageToken) {
+        return decodePageToken(pageToken, resolveSort(filter, sort));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamEvents(
+            EventSearchFilter filter,
+            EventSearchSort sort,
+            EventSearchCursor cursor,
+            Consumer<Event> eventConsumer
+    ) {
+        try (Stream<Event> events = eventStreamRepository.streamEvents(filter, resolveSort(filter, sort), cursor)) {
+            events.forEach(eventConsumer);
+        }
+    }
+
+    private EventSearchSort resolveSort(EventSearchFilter filter, EventSearchSort sort) {
+        return sort == EventSearchSort.RELEVANCE && filter.hasName()
+                ? EventSearchSort.RELEVANCE
+                : EventSearchSort.DATE;
+    }
+
+    private EventSearchCursor decodePageToken(String pageToken, EventSearchSort sort) {
+        if (pageToken == null || pageToken.isBlank()) {
+            return null;
+        }
+
+        EventSearchCursor cursor = EventSearchCursor.decode(pageToken);
+        if (cursor.sort() != sort) {
+            throw new InvalidPageTokenException(pageToken);
+        }
+
+        return cursor;
     }
 
     @Override
-    public List<Event> getUserEvents(User user) {
-        List<EventEntity> allByOwner = eventRepository.findAllByOwner(
-                userEntityMapper.toEntity(user)
+    public EventSearchFacets getSearchFacets(EventSearchFilter filter, boolean approximate) {
+        return eventSearchRepository.countFacets(
+                filter,
+                approximate ? resolveFacetsSamplePercent() : null
         );
+    }
 
-        return allByOwner
-                .stream()
-                .map(eventEntityMapper::toDomain)
-                .toList();
+    private Double resolveFacetsSamplePercent() {
+        long estimatedEventCount = eventSearchRepository.estimateEventCount();
+        if (estimatedEventCount < facetsApproximationMinRows) {
+            return null;
+        }
+
+        return 100.0 * facetsSampleRows / estimatedEventCount;
+    }
+
+    private int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return defaultSearchPageSize;
+        }
+
+        return Math.min(pageSize, maxSearchPageSize);
+    }
+
+    @Override
+    public List<EventDto> getUserEventDtos(User user) {
+        return eventRepository.findAllDtosByOwnerId(user.getId());
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void streamUserEvents(User user, Consumer<Event> eventConsumer) {
+        try (Stream<Event> events = eventStreamRepository.streamByOwnerId(user.getId())) {
+            events.forEach(eventConsumer);
+        }
     }
 
     @Transactional
     @Override
     public void increaseOccupiedPlaces(Long eventId) {
         eventRepository.increaseOccupiedPlaces(eventId);
+        publishEventsChanged(List.of(eventId));
     }
 
     @Transactional
     @Override
     public void decreaseOccupiedPlaces(Long eventId) {
         eventRepository.decreaseOccupiedPlaces(eventId);
+        publishEventsChanged(List.of(eventId));
     }
 
     @Transactional
     @Override
-    public void updateEventStatuses() {
-        LocalDateTime currentTime = LocalDateTime.now();
-        List<EventEntity> startedEvents = eventRepository
-                .findAllByDateLessThanEqualAndStatus(currentTime, EventStatus.WAIT_START);
-        startedEvents.forEach(
-                eventEntity -> {
-                    eventEntity.setStatus(EventStatus.STARTED);
-                    eventRepository.save(eventEntity);
-                }
-        );
-        sendEventStatusChangesToKafka(
-                startedEvents
-                        .stream()
-                        .map(eventEntityMapper::toDomain)
-                        .toList(),
-                EventStatus.WAIT_START
-        );
+    public List<Event> startEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit) {
+        List<Event> startedEvents = eventStatusTransitionRepository.startEvents(currentTime, after, limit);
+        onStatusesChanged(startedEvents, EventStatus.WAIT_START);
 
-        List<EventEntity> finishedEvents = eventRepository.findAllEventsToFinish(currentTime);
-        finishedEvents.forEach(
-                eventEntity -> {
-                    eventEntity.setStatus(EventStatus.FINISHED);
-                    eventRepository.save(eventEntity);
-                }
+        return startedEvents;
+    }
+
+    @Transactional
+    @Override
+    public List<Event> finishEvents(LocalDateTime currentTime, EventTransitionCursor after, int limit) {
+        List<Event> finishedEvents = eventStatusTransitionRepository.finishEvents(currentTime, after, limit);
+        onStatusesChanged(finishedEvents, EventStatus.STARTED);
+
+        return finishedEvents;
+    }
+
+    @Override
+    public long countDueStatusTransitions(LocalDateTime currentTime) {
+        return eventStatusTransitionRepository.countDueTransitions(currentTime);
+    }
+
+    private void onStatusesChanged(List<Event> events, EventStatus oldStatus) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> participantIds = eventParticipantsRepository.findParticipantIdsByEventIds(
+                events.stream()
+                        .map(Event::getId)
+                        .toList()
+        );
+        eventChangeSender.sendEventsAfterCommit(
+                events.stream()
+                        .map(event -> eventChangeDtoMapper.toDto(
+                                event,
+                                oldStatus,
+                                participantIds.getOrDefault(event.getId(), List.of())
+                        ))
+                        .toList()
         );
-        sendEventStatusChangesToKafka(
-                finishedEvents
-                        .stream()
-                        .map(eventEntityMapper::toDomain)
+        publishEventsChanged(
+                events.stream()
+                        .map(Event::getId)
                         .toList(),
-                EventStatus.STARTED
+                events.stream()
+                        .map(event -> withStatus(event, oldStatus))
+                        .toList()
         );
     }
 
-    private void sendEventStatusChangesToKafka(List<Event> events, EventStatus oldStatus) {
-        events.forEach(
-                event -> {
-                    eventChangeSender.sendEvent(
-                            eventChangeDtoMapper.toDto(
-                                    event,
-                                    oldStatus,
-                                    getEventParticipants(event.getId())
-                            )
-                    );
-                }
+    private void publishEventsChanged(List<Long> eventIds) {
+        applicationEventPublisher.publishEvent(new EventsChangedEvent(eventIds));
+    }
+
+    private void publishEventsChanged(List<Long> eventIds, List<Event> previousVersions) {
+        applicationEventPublisher.publishEvent(new EventsChangedEvent(eventIds, previousVersions));
+    }
+
+    private Event withStatus(Event event, EventStatus status) {
+        return new Event(
+                event.getId(),
+                event.getName(),
+                event.getOwner(),
+                event.getMaxPlaces(),
+                event.getOccupiedPlaces(),
+                event.getDate(),
+                event.getCost(),
+                event.getDuration(),
+                event.getLocation(),
+                status
         );
     }
 }
@@ -1,22 +1,129 @@
 package dev.vudovenko.eventmanagement.scheduler;
 
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventTransitionCursor;
 import dev.vudovenko.eventmanagement.events.services.EventService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
 
 @Log4j2
 @Service
-@RequiredArgsConstructor
 public class EventStatusScheduler {
 
     private final EventService eventService;
+    private final EventStatusSchedulerLock eventStatusSchedulerLock;
+    private final EventStatusSchedulerMetrics eventStatusSchedulerMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration timeBudget;
+
+    public EventStatusScheduler(
+            EventService eventService,
+            EventStatusSchedulerLock eventStatusSchedulerLock,
+            EventStatusSchedulerMetrics eventStatusSchedulerMetrics,
+            TransactionTemplate transactionTemplate,
+            @Value("${scheduler.event.statuses.chunk-size}") int chunkSize,
+            @Value("${scheduler.event.statuses.time-budget}") Duration timeBudget
+    ) {
+        this.eventService = eventService;
+        this.eventStatusSchedulerLock = eventStatusSchedulerLock;
+        this.eventStatusSchedulerMetrics = eventStatusSchedulerMetrics;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.timeBudget = timeBudget;
+    }
+
+    public boolean updateEventStatuses() {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeBudget.toNanos();
+        LocalDateTime currentTime = LocalDateTime.now();
+        EventStatusTick tick = new EventStatusTick();
+
+        TickOutcome outcome = transitionInChunks(
+                EventStatusTransition.START,
+                cursor -> eventService.startEvents(currentTime, cursor, chunkSize),
+                tick,
+                deadline
+        );
+        if (outcome == TickOutcome.COMPLETED) {
+            outcome = transitionInChunks(
+                    EventStatusTransition.FINISH,
+                    cursor -> eventService.finishEvents(currentTime, cursor, chunkSize),
+                    tick,
+                    deadline
+            );
+        }
+
+        long backlog = eventService.countDueStatusTransitions(currentTime);
+        if (outcome == TickOutcome.COMPLETED && backlog > 0) {
+            outcome = TickOutcome.ROWS_LOCKED;
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        eventStatusSchedulerMetrics.recordTick(tick, duration, backlog, outcome == TickOutcome.COMPLETED);
+        log.info(
+                "Event status tick: outcome={} started={} finished={} backlog={} maxLagMs={} durationMs={} dueBy={}",
+                outcome,
+                tick.getTransitionedEvents(EventStatusTransition.START),
+                tick.getTransitionedEvents(EventStatusTransition.FINISH),
+                backlog,
+                tick.getMaxLag().toMillis(),
+                duration.toMillis(),
+                currentTime
+        );
 
-    @Scheduled(fixedRateString = "${scheduler.event.statuses.ISO}")
-    public void updateEventStatuses() {
-        log.info("Updating event statuses");
+        return outcome == TickOutcome.COMPLETED;
+    }
+
+    private TickOutcome transitionInChunks(
+            EventStatusTransition transition,
+            Function<EventTransitionCursor, List<Event>> transitionChunk,
+            EventStatusTick tick,
+            long deadline
+    ) {
+        EventTransitionCursor cursor = null;
+        while (true) {
+            EventTransitionCursor chunkCursor = cursor;
+            List<Event> events = transactionTemplate.execute(status -> {
+                if (!eventStatusSchedulerLock.tryLock()) {
+                    return null;
+                }
+
+                return transitionChunk.apply(chunkCursor);
+            });
+            if (events == null) {
+                return TickOutcome.LOCKED_BY_ANOTHER_INSTANCE;
+            }
+
+            LocalDateTime transitionedAt = LocalDateTime.now();
+            tick.add(transition, events, transitionedAt);
+            eventStatusSchedulerMetrics.recordChunk(transition, events, transitionedAt);
+            if (events.size() < chunkSize) {
+                return TickOutcome.COMPLETED;
+            }
+
+            cursor = transition.cursorOf(events.get(events.size() - 1));
+            log.info(
+                    "Event status tick in progress: transition={} events={}",
+                    transition.getTag(),
+                    tick.getTransitionedEvents(transition)
+            );
+            if (System.nanoTime() - deadline > 0) {
+                return TickOutcome.OUT_OF_TIME;
+            }
+        }
+    }
 
-        eventService.updateEventStatuses();
+    private enum TickOutcome {
+        COMPLETED,
+        OUT_OF_TIME,
+        ROWS_LOCKED,
+        LOCKED_BY_ANOTHER_INSTANCE
     }
 }
@@ -0,0 +1,25 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Advisory-блокировка на время транзакции: статусы меняет один экземпляр, а упавший экземпляр ее не держит
+ */
+@Component
+@RequiredArgsConstructor
+class EventStatusSchedulerLock {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${scheduler.event.statuses.advisory-lock-key}")
+    private long lockKey;
+
+    boolean tryLock() {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, lockKey)
+        );
+    }
+}
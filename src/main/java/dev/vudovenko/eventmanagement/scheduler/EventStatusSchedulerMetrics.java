@@ -0,0 +1,64 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+class EventStatusSchedulerMetrics {
+
+    private static final String TRANSITION_TAG = "transition";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<EventStatusTransition, Timer> lagTimers = new EnumMap<>(EventStatusTransition.class);
+    private final Map<EventStatusTransition, Counter> transitionCounters = new EnumMap<>(EventStatusTransition.class);
+    private final DistributionSummary tickTransitions;
+    private final AtomicLong backlog = new AtomicLong();
+
+    EventStatusSchedulerMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (EventStatusTransition transition : EventStatusTransition.values()) {
+            lagTimers.put(
+                    transition,
+                    Timer.builder("event.status.transition.lag")
+                            .tag(TRANSITION_TAG, transition.getTag())
+                            .publishPercentiles(0.5, 0.99)
+                            .register(meterRegistry)
+            );
+            transitionCounters.put(
+                    transition,
+                    Counter.builder("event.status.transitions")
+                            .tag(TRANSITION_TAG, transition.getTag())
+                            .register(meterRegistry)
+            );
+        }
+        this.tickTransitions = DistributionSummary.builder("event.status.tick.transitions")
+                .register(meterRegistry);
+        meterRegistry.gauge("event.status.backlog", backlog);
+    }
+
+    void recordChunk(EventStatusTransition transition, List<Event> events, LocalDateTime transitionedAt) {
+        Timer lagTimer = lagTimers.get(transition);
+        events.forEach(event -> lagTimer.record(EventStatusTick.getLag(transition, event, transitionedAt)));
+        transitionCounters.get(transition).increment(events.size());
+    }
+
+    void recordTick(EventStatusTick tick, Duration duration, long backlogSize, boolean completed) {
+        tickTransitions.record(tick.getTransitionedEvents());
+        Timer.builder("event.status.tick.duration")
+                .tag("outcome", completed ? "completed" : "incomplete")
+                .register(meterRegistry)
+                .record(duration);
+        backlog.set(backlogSize);
+    }
+}
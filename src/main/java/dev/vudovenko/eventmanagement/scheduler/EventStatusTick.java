@@ -0,0 +1,44 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+class EventStatusTick {
+
+    private final Map<EventStatusTransition, Integer> transitionedEvents = new EnumMap<>(EventStatusTransition.class);
+    private Duration maxLag = Duration.ZERO;
+
+    void add(EventStatusTransition transition, List<Event> events, LocalDateTime transitionedAt) {
+        transitionedEvents.merge(transition, events.size(), Integer::sum);
+        events.forEach(event -> {
+            Duration lag = getLag(transition, event, transitionedAt);
+            if (lag.compareTo(maxLag) > 0) {
+                maxLag = lag;
+            }
+        });
+    }
+
+    int getTransitionedEvents(EventStatusTransition transition) {
+        return transitionedEvents.getOrDefault(transition, 0);
+    }
+
+    int getTransitionedEvents() {
+        return transitionedEvents.values()
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    Duration getMaxLag() {
+        return maxLag;
+    }
+
+    static Duration getLag(EventStatusTransition transition, Event event, LocalDateTime transitionedAt) {
+        return Duration.between(transition.cursorOf(event).time(), transitionedAt);
+    }
+}
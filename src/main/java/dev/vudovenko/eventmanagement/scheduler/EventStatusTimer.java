@@ -0,0 +1,131 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventScheduleChangedEvent;
+import dev.vudovenko.eventmanagement.events.repositories.EventStatusTransitionRepository;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+@Log4j2
+@Component
+@ConditionalOnProperty(name = "scheduler.enabled", matchIfMissing = true)
+public class EventStatusTimer {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final EventStatusScheduler eventStatusScheduler;
+    private final EventStatusTransitionRepository eventStatusTransitionRepository;
+    private final Duration horizon;
+
+    private final DelayQueue<DueTransition> dueTransitions = new DelayQueue<>();
+    private final Set<LocalDateTime> scheduledTimes = ConcurrentHashMap.newKeySet();
+
+    private Thread timerThread;
+
+    public EventStatusTimer(
+            EventStatusScheduler eventStatusScheduler,
+            EventStatusTransitionRepository eventStatusTransitionRepository,
+            @Value("${scheduler.event.statuses.horizon}") Duration horizon
+    ) {
+        this.eventStatusScheduler = eventStatusScheduler;
+        this.eventStatusTransitionRepository = eventStatusTransitionRepository;
+        this.horizon = horizon;
+    }
+
+    @PostConstruct
+    public void start() {
+        timerThread = Thread.ofPlatform()
+                .name("event-status-timer")
+                .daemon()
+                .start(this::runTransitions);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timerThread.interrupt();
+    }
+
+    @Scheduled(fixedRateString = "${scheduler.event.statuses.horizon}")
+    public void loadWindow() {
+        LocalDateTime until = getWindowEnd();
+        eventStatusTransitionRepository.findTransitionTimesBefore(until).forEach(this::schedule);
+        log.info("Event status transitions loaded until {}, {} scheduled", until, scheduledTimes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventScheduleChanged(EventScheduleChangedEvent eventScheduleChangedEvent) {
+        Event event = eventScheduleChangedEvent.event();
+        LocalDateTime until = getWindowEnd();
+        LocalDateTime endTime = event.getDate().plusMinutes(event.getDuration());
+
+        if (event.getStatus() == EventStatus.WAIT_START && event.getDate().isBefore(until)) {
+            schedule(event.getDate());
+        }
+        if ((event.getStatus() == EventStatus.WAIT_START || event.getStatus() == EventStatus.STARTED)
+                && endTime.isBefore(until)) {
+            schedule(endTime);
+        }
+    }
+
+    private LocalDateTime getWindowEnd() {
+        return LocalDateTime.now().plus(horizon.multipliedBy(2));
+    }
+
+    private void schedule(LocalDateTime dueAt) {
+        if (scheduledTimes.add(dueAt)) {
+            dueTransitions.add(new DueTransition(dueAt));
+        }
+    }
+
+    private void runTransitions() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                take(dueTransitions.take());
+                for (DueTransition due = dueTransitions.poll(); due != null; due = dueTransitions.poll()) {
+                    take(due);
+                }
+
+                if (!eventStatusScheduler.updateEventStatuses()) {
+                    schedule(LocalDateTime.now().plus(RETRY_DELAY));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Failed to update event statuses, retrying in {}", RETRY_DELAY, e);
+                schedule(LocalDateTime.now().plus(RETRY_DELAY));
+            }
+        }
+    }
+
+    private void take(DueTransition due) {
+        scheduledTimes.remove(due.dueAt());
+    }
+
+    private record DueTransition(LocalDateTime dueAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), dueAt));
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return dueAt.compareTo(((DueTransition) other).dueAt);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventTransitionCursor;
+
+import java.util.function.Function;
+
+enum EventStatusTransition {
+
+    START("start", EventTransitionCursor::startOf),
+    FINISH("finish", EventTransitionCursor::endOf);
+
+    private final String tag;
+    private final Function<Event, EventTransitionCursor> cursorOf;
+
+    EventStatusTransition(String tag, Function<Event, EventTransitionCursor> cursorOf) {
+        this.tag = tag;
+        this.cursorOf = cursorOf;
+    }
+
+    String getTag() {
+        return tag;
+    }
+
+    EventTransitionCursor cursorOf(Event event) {
+        return cursorOf.apply(event);
+    }
+}
@@ -1,6 +1,7 @@
 package dev.vudovenko.eventmanagement.security;
 
 import dev.vudovenko.eventmanagement.security.jwt.JwtTokenFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -47,6 +48,9 @@ public class SecurityConfiguration {
                 )
                 .authorizeHttpRequests(authorizeHttpRequests ->
                         authorizeHttpRequests
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                .permitAll()
+
                                 .requestMatchers(HttpMethod.GET, "/locations")
                                 .hasAnyAuthority("ADMIN", "USER")
                                 .requestMatchers(HttpMethod.POST, "/locations")
@@ -71,6 +75,16 @@ public class SecurityConfiguration {
                                 .hasAuthority("USER")
                                 .requestMatchers(HttpMethod.DELETE, "events/registrations/cancel/*")
                                 .hasAuthority("USER")
+                                .requestMatchers(HttpMethod.POST, "/events/registrations/*/bulk")
+                                .hasAuthority("ADMIN")
+                                .requestMatchers(HttpMethod.PUT, "/events/registrations/hot/*")
+                                .hasAuthority("ADMIN")
+                                .requestMatchers(HttpMethod.DELETE, "/events/registrations/hot/*")
+                                .hasAuthority("ADMIN")
+                                .requestMatchers("/events/registrations/waitlist/*")
+                                .hasAuthority("USER")
+                                .requestMatchers(HttpMethod.GET, "/events/registrations/commands/*")
+                                .hasAuthority("USER")
 
                                 .requestMatchers(HttpMethod.POST, "/events")
                                 .hasAuthority("USER")
@@ -84,6 +98,11 @@ public class SecurityConfiguration {
                                 .hasAnyAuthority("ADMIN", "USER")
                                 .requestMatchers(HttpMethod.POST, "/events/search")
                                 .hasAnyAuthority("ADMIN", "USER")
+                                .requestMatchers(HttpMethod.POST, "/events/search/facets")
+                                .hasAnyAuthority("ADMIN", "USER")
+
+                                .requestMatchers("/actuator/**")
+                                .hasAuthority("ADMIN")
 
                                 .anyRequest()
                                 .authenticated()
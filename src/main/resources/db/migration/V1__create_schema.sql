@@ -0,0 +1,41 @@
+-- Схема в том виде, в котором ее создавал hibernate.ddl-auto: update.
+-- На существующих базах эта миграция не выполняется, они помечаются версией 1 (baseline-on-migrate)
+
+CREATE TABLE IF NOT EXISTS users
+(
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login    VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    age      INTEGER      NOT NULL,
+    role     VARCHAR(255) NOT NULL CHECK (role IN ('USER', 'ADMIN'))
+);
+
+CREATE TABLE IF NOT EXISTS locations
+(
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL,
+    address     VARCHAR(255) NOT NULL,
+    capacity    INTEGER      NOT NULL,
+    description VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS events
+(
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    owner_id        BIGINT       NOT NULL REFERENCES users (id),
+    max_places      INTEGER      NOT NULL,
+    occupied_places INTEGER      NOT NULL,
+    date            TIMESTAMP    NOT NULL,
+    cost            INTEGER      NOT NULL,
+    duration        INTEGER      NOT NULL,
+    location_id     BIGINT       NOT NULL REFERENCES locations (id),
+    status          VARCHAR(255) CHECK (status IN ('WAIT_START', 'STARTED', 'CANCELLED', 'FINISHED'))
+);
+
+CREATE TABLE IF NOT EXISTS "event-registrations"
+(
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id  BIGINT REFERENCES users (id),
+    event_id BIGINT REFERENCES events (id)
+);
@@ -0,0 +1,37 @@
+-- Индексы под запросы репозиториев. IF NOT EXISTS - часть индексов уже могла быть создана
+-- Hibernate по аннотациям сущностей или скриптом spring.sql.init до перехода на миграции
+
+CREATE INDEX IF NOT EXISTS idx_events_date_id
+    ON events (date, id);
+
+CREATE INDEX IF NOT EXISTS idx_events_status_date
+    ON events (status, date);
+
+CREATE INDEX IF NOT EXISTS idx_events_location_id_date
+    ON events (location_id, date);
+
+CREATE INDEX IF NOT EXISTS idx_events_owner_id
+    ON events (owner_id);
+
+CREATE INDEX IF NOT EXISTS idx_event_registrations_event_id
+    ON "event-registrations" (event_id);
+
+-- Повторные записи на одно мероприятие удаляются вместе с занятыми ими местами,
+-- иначе уникальный индекс не создастся
+WITH removed_registrations AS (
+    DELETE FROM "event-registrations" duplicate
+        USING "event-registrations" kept
+        WHERE kept.user_id = duplicate.user_id
+            AND kept.event_id = duplicate.event_id
+            AND kept.id < duplicate.id
+        RETURNING duplicate.event_id
+)
+UPDATE events e
+SET occupied_places = e.occupied_places - removed.registrations_count
+FROM (SELECT event_id, COUNT(*) AS registrations_count
+      FROM removed_registrations
+      GROUP BY event_id) removed
+WHERE e.id = removed.event_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_event_registrations_user_id_event_id
+    ON "event-registrations" (user_id, event_id);
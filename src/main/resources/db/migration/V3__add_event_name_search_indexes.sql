@@ -0,0 +1,11 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_events_name_trgm
+    ON events USING gin (name gin_trgm_ops);
+
+ALTER TABLE events
+    ADD COLUMN IF NOT EXISTS name_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', name)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_name_tsv
+    ON events USING gin (name_tsv);
@@ -0,0 +1,25 @@
+-- Идентификаторы выдаются последовательностями с шагом 50: hibernate берет из последовательности
+-- верхнюю границу блока и раздает id блока сам, без запроса к БД на каждую вставку.
+-- Последовательность становится значением по умолчанию для id, поэтому вставки в обход hibernate
+-- тоже получают id из нее. Такая вставка занимает верхнюю границу своего блока и не пересекается
+-- с блоками hibernate
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', COALESCE(max(id), 0) + 50, false) FROM users;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE locations ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS locations_seq INCREMENT BY 50 OWNED BY locations.id;
+SELECT setval('locations_seq', COALESCE(max(id), 0) + 50, false) FROM locations;
+ALTER TABLE locations ALTER COLUMN id SET DEFAULT nextval('locations_seq');
+
+ALTER TABLE events ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS events_seq INCREMENT BY 50 OWNED BY events.id;
+SELECT setval('events_seq', COALESCE(max(id), 0) + 50, false) FROM events;
+ALTER TABLE events ALTER COLUMN id SET DEFAULT nextval('events_seq');
+
+ALTER TABLE "event-registrations" ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS event_registrations_seq INCREMENT BY 50 OWNED BY "event-registrations".id;
+SELECT setval('event_registrations_seq', COALESCE(max(id), 0) + 50, false) FROM "event-registrations";
+ALTER TABLE "event-registrations" ALTER COLUMN id SET DEFAULT nextval('event_registrations_seq');
@@ -0,0 +1,17 @@
+-- Лист ожидания мероприятий. Очередь FIFO: порядок задает id, поэтому индекс (event_id, id)
+-- отдает голову очереди и позиции пользователей без сортировки.
+-- Место в очереди не имеет смысла без мероприятия или пользователя и удаляется вместе с ними
+
+CREATE TABLE IF NOT EXISTS "event-waitlist"
+(
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT    NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    event_id   BIGINT    NOT NULL REFERENCES events (id) ON DELETE CASCADE,
+    created_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_waitlist_event_id_id
+    ON "event-waitlist" (event_id, id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_event_waitlist_user_id_event_id
+    ON "event-waitlist" (user_id, event_id);
@@ -0,0 +1,5 @@
+-- Время окончания идущих мероприятий: по нему планировщик статусов выбирает
+-- мероприятия, которые пора завершить, не просматривая всю таблицу
+CREATE INDEX IF NOT EXISTS idx_events_started_end_time
+    ON events ((date + duration * INTERVAL '1 minute'))
+    WHERE status = 'STARTED';
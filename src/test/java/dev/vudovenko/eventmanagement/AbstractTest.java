@@ -11,13 +11,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.event.ContextStoppedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.testcontainers.containers.PostgreSQLContainer;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Log4j2
 @AutoConfigureMockMvc
@@ -66,6 +76,36 @@ public class AbstractTest {
         return "Bearer " + tokenTestUtils.getJwtToken(user);
     }
 
+    /**
+     * Выполняет запрос с Accept: application/x-ndjson и читает потоковый ответ построчно
+     */
+    public <T> List<T> performNdjsonRequest(
+            MockHttpServletRequestBuilder requestBuilder,
+            Class<T> valueType
+    ) throws Exception {
+        MvcResult mvcResult = mockMvc
+                .perform(requestBuilder.accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = mockMvc
+                .perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<T> values = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            if (!line.isBlank()) {
+                values.add(objectMapper.readValue(line, valueType));
+            }
+        }
+
+        return values;
+    }
+
     public static void compareDatesWithTruncatedToSeconds(LocalDateTime firstDate, LocalDateTime secondDate) {
         Assertions.assertEquals(
                 firstDate.truncatedTo(ChronoUnit.SECONDS),
@@ -0,0 +1,186 @@
+package dev.vudovenko.eventmanagement;
+
+import dev.vudovenko.eventmanagement.eventRegistrations.entities.EventRegistrationEntity;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationBatchRepository;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationIdGenerator;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.entity.EventEntity;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.locations.entity.LocationEntity;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.users.entity.UserEntity;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.log4j.Log4j2;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Сравнивает вставку мероприятий и регистраций через hibernate без пакетной записи
+ * (так вставки шли при IDENTITY) и с пакетной записью, которую дают id из последовательностей.
+ * Проверяет, что вставки регистраций в обход hibernate берут id блоками, а не блок на строку
+ */
+@Log4j2
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class InsertBatchingTest extends AbstractTest {
+
+    private static final int NUMBER_ROWS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EventRegistrationBatchRepository eventRegistrationBatchRepository;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldBatchEventInserts() {
+        User owner = userTestUtils.getRegisteredUser();
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+
+        InsertRun unbatched = insert("events", 1, session -> persistEvents(session, owner, location));
+        InsertRun batched = insert("events", BATCH_SIZE, session -> persistEvents(session, owner, location));
+
+        assertBatched(unbatched, batched);
+    }
+
+    @Test
+    void shouldBatchRegistrationInserts() {
+        Event event = eventTestUtils.getCreatedEvent();
+        List<User> users = userTestUtils.insertUsers(NUMBER_ROWS * 2);
+
+        InsertRun unbatched = insert(
+                "registrations",
+                1,
+                session -> persistRegistrations(session, event, users.subList(0, NUMBER_ROWS))
+        );
+        InsertRun batched = insert(
+                "registrations",
+                BATCH_SIZE,
+                session -> persistRegistrations(session, event, users.subList(NUMBER_ROWS, NUMBER_ROWS * 2))
+        );
+
+        assertBatched(unbatched, batched);
+    }
+
+    @Test
+    void shouldTakeIdsOfJdbcRegistrationsFromSequenceBlocks() {
+        Event event = eventTestUtils.getCreatedEvent();
+        List<Long> userIds = userTestUtils.insertUsers(NUMBER_ROWS)
+                .stream()
+                .map(User::getId)
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status ->
+                eventRegistrationBatchRepository.insertRegistrations(event.getId(), userIds)
+        );
+
+        List<Long> registrationIds = jdbcTemplate.queryForList(
+                """
+                        SELECT er.id
+                        FROM "event-registrations" er
+                        WHERE er.event_id = ?
+                        """,
+                Long.class,
+                event.getId()
+        );
+        long idSpan = Collections.max(registrationIds) - Collections.min(registrationIds) + 1;
+        Assertions.assertEquals(NUMBER_ROWS, registrationIds.size());
+        Assertions.assertTrue(
+                idSpan < NUMBER_ROWS + EventRegistrationIdGenerator.ALLOCATION_SIZE,
+                "registration ids span " + idSpan
+        );
+    }
+
+    private void persistEvents(Session session, User owner, Location location) {
+        IntStream.range(0, NUMBER_ROWS)
+                .forEach(i -> session.persist(new EventEntity(
+                        null,
+                        "event " + i,
+                        session.getReference(UserEntity.class, owner.getId()),
+                        100,
+                        0,
+                        LocalDateTime.now().plusDays(1),
+                        1000,
+                        60,
+                        session.getReference(LocationEntity.class, location.getId()),
+                        null,
+                        EventStatus.WAIT_START
+                )));
+    }
+
+    private void persistRegistrations(Session session, Event event, List<User> users) {
+        users.forEach(user -> session.persist(new EventRegistrationEntity(
+                null,
+                session.getReference(UserEntity.class, user.getId()),
+                session.getReference(EventEntity.class, event.getId())
+        )));
+    }
+
+    private InsertRun insert(String rows, int jdbcBatchSize, Consumer<Session> inserts) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            session.setJdbcBatchSize(jdbcBatchSize);
+            inserts.accept(session);
+        });
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        InsertRun insertRun = new InsertRun(statistics.getPrepareStatementCount(), elapsedMillis);
+        log.info(
+                "Inserted {} {} with jdbc batch size {}: {} statements, {} ms, {} rows/s",
+                NUMBER_ROWS,
+                rows,
+                jdbcBatchSize,
+                insertRun.statements(),
+                insertRun.elapsedMillis(),
+                NUMBER_ROWS * 1000 / Math.max(insertRun.elapsedMillis(), 1)
+        );
+
+        return insertRun;
+    }
+
+    private void assertBatched(InsertRun unbatched, InsertRun batched) {
+        Assertions.assertTrue(unbatched.statements() >= NUMBER_ROWS);
+        Assertions.assertTrue(
+                batched.statements() * 10 < unbatched.statements(),
+                "batched " + batched.statements() + " statements, unbatched " + unbatched.statements()
+        );
+    }
+
+    private record InsertRun(long statements, long elapsedMillis) {
+    }
+}
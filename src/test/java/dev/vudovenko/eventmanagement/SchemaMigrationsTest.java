@@ -0,0 +1,114 @@
+package dev.vudovenko.eventmanagement;
+
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.QueryPlanTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+class SchemaMigrationsTest extends AbstractTest {
+
+    private static final String INSERT_REGISTRATION = """
+            INSERT INTO "event-registrations" (user_id, event_id)
+            VALUES (:userId, :eventId)
+            """;
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private QueryPlanTestUtils queryPlanTestUtils;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldApplyAllMigrations() {
+        Assertions.assertThat(flyway.info().pending()).isEmpty();
+        Assertions.assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("6");
+    }
+
+    @Test
+    void shouldRejectDuplicateRegistration() {
+        User user = userTestUtils.getRegisteredUser();
+        Event event = eventTestUtils.getCreatedEvent();
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("userId", user.getId())
+                .addValue("eventId", event.getId());
+
+        namedParameterJdbcTemplate.update(INSERT_REGISTRATION, parameters);
+
+        Assertions.assertThatThrownBy(() -> namedParameterJdbcTemplate.update(INSERT_REGISTRATION, parameters))
+                .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldUseIndexForEventsByOwner() {
+        assertUsesIndex(
+                "SELECT * FROM events WHERE owner_id = :id",
+                "idx_events_owner_id"
+        );
+    }
+
+    @Test
+    void shouldUseIndexForRegistrationsByEvent() {
+        assertUsesIndex(
+                "SELECT * FROM \"event-registrations\" WHERE event_id = :id",
+                "idx_event_registrations_event_id"
+        );
+    }
+
+    @Test
+    void shouldUseIndexForRegistrationsByUserAndEvent() {
+        assertUsesIndex(
+                "SELECT * FROM \"event-registrations\" WHERE user_id = :id AND event_id = :id",
+                "uq_event_registrations_user_id_event_id"
+        );
+    }
+
+    @Test
+    void shouldUseIndexForRegistrationsPageByUser() {
+        assertUsesIndex(
+                """
+                        SELECT * FROM "event-registrations"
+                        WHERE user_id = :id AND event_id > :id
+                        ORDER BY event_id
+                        LIMIT 100
+                        """,
+                "uq_event_registrations_user_id_event_id"
+        );
+    }
+
+    @Test
+    void shouldUseIndexForEventsToFinish() {
+        assertUsesIndex(
+                """
+                        SELECT * FROM events
+                        WHERE status = 'STARTED'
+                          AND date + duration * INTERVAL '1 minute' < LOCALTIMESTAMP
+                        """,
+                "idx_events_started_end_time"
+        );
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = queryPlanTestUtils.explainWithoutSeqScan(
+                sql,
+                new MapSqlParameterSource("id", 1L)
+        );
+
+        Assertions.assertThat(plan)
+                .as(plan)
+                .contains(indexName)
+                .doesNotContain("Seq Scan");
+    }
+}
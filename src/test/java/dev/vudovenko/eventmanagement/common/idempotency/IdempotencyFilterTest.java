@@ -0,0 +1,134 @@
+package dev.vudovenko.eventmanagement.common.idempotency;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.dto.EventCreateRequestDto;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.RandomUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class IdempotencyFilterTest extends AbstractTest {
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldReplayCreatedEventForSameKey() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        Location location = locationTestUtils.getCreatedLocation();
+        String eventCreateRequestDtoJson = objectMapper.writeValueAsString(
+                new EventCreateRequestDto(
+                        "event-" + RandomUtils.getRandomInt(),
+                        100,
+                        LocalDateTime.now().plusDays(1),
+                        1200,
+                        60,
+                        location.getId()
+                )
+        );
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        MockHttpServletResponse firstResponse = createEvent(user, idempotencyKey, eventCreateRequestDtoJson);
+        MockHttpServletResponse replayedResponse = createEvent(user, idempotencyKey, eventCreateRequestDtoJson);
+
+        EventDto createdEventDto = objectMapper.readValue(firstResponse.getContentAsString(), EventDto.class);
+        EventDto replayedEventDto = objectMapper.readValue(replayedResponse.getContentAsString(), EventDto.class);
+
+        Assertions.assertEquals(createdEventDto, replayedEventDto);
+        Assertions.assertNull(firstResponse.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        Assertions.assertEquals("true", replayedResponse.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        Assertions.assertEquals(
+                1,
+                eventService.getUserEventDtos(user)
+                        .stream()
+                        .filter(eventDto -> eventDto.locationId().equals(location.getId()))
+                        .count()
+        );
+    }
+
+    @Test
+    void shouldReplayRegistrationForSameKey() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        Event event = eventTestUtils.getCreatedEvent();
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        registerForEvent(user, event, idempotencyKey);
+        registerForEvent(user, event, idempotencyKey);
+
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(user.getId(), event.getId()));
+        Assertions.assertEquals(
+                event.getOccupiedPlaces() + 1,
+                eventService.findById(event.getId()).getOccupiedPlaces()
+        );
+    }
+
+    @Test
+    void shouldNotShareKeyBetweenUsers() throws Exception {
+        User firstUser = userTestUtils.getRegisteredUser();
+        User secondUser = userTestUtils.getRegisteredUser();
+        Event event = eventTestUtils.getCreatedEvent();
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        registerForEvent(firstUser, event, idempotencyKey);
+        MockHttpServletResponse secondUserResponse = registerForEvent(secondUser, event, idempotencyKey);
+
+        Assertions.assertNull(secondUserResponse.getHeader(IdempotencyFilter.IDEMPOTENT_REPLAYED_HEADER));
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(secondUser.getId(), event.getId()));
+    }
+
+    private MockHttpServletResponse createEvent(
+            User user,
+            String idempotencyKey,
+            String eventCreateRequestDtoJson
+    ) throws Exception {
+        return mockMvc
+                .perform(
+                        post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(eventCreateRequestDtoJson)
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                )
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse();
+    }
+
+    private MockHttpServletResponse registerForEvent(User user, Event event, String idempotencyKey) throws Exception {
+        return mockMvc
+                .perform(
+                        post("/events/registrations/{eventId}", event.getId())
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                                .header(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, idempotencyKey)
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+    }
+}
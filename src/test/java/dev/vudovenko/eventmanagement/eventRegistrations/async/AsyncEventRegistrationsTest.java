@@ -0,0 +1,149 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.async;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.RegistrationCommand;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.RegistrationCommandDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "events.registration.async.enabled=true")
+class AsyncEventRegistrationsTest extends AbstractTest {
+
+    private static final int MAX_PLACES = 10;
+    private static final int NUMBER_REGISTRATIONS = 50;
+    private static final long AWAIT_MILLIS = 30_000;
+    private static final long POLL_INTERVAL_NANOS = 10_000_000;
+
+    @Autowired
+    private AsyncEventRegistrations asyncEventRegistrations;
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldAcceptRegistrationAndReportStatus() throws Exception {
+        Event event = getCreatedEvent();
+        User user = userTestUtils.getRegisteredUser();
+
+        MockHttpServletResponse response = mockMvc
+                .perform(
+                        post("/events/registrations/{eventId}", event.getId())
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                )
+                .andExpect(status().isAccepted())
+                .andReturn()
+                .getResponse();
+        RegistrationCommandDto acceptedCommand = objectMapper.readValue(
+                response.getContentAsString(),
+                RegistrationCommandDto.class
+        );
+        String statusLocation = response.getHeader(HttpHeaders.LOCATION);
+
+        Assertions.assertNotNull(statusLocation);
+        Assertions.assertTrue(statusLocation.endsWith("/events/registrations/commands/" + acceptedCommand.commandId()));
+
+        RegistrationCommandDto finishedCommand = awaitFinished(
+                () -> getCommandStatus(statusLocation, user),
+                RegistrationCommandDto::status
+        );
+
+        Assertions.assertEquals(RegistrationCommandStatus.REGISTERED, finishedCommand.status());
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(user.getId(), event.getId()));
+    }
+
+    @Test
+    void shouldNotOverbookWhenCommandsAreQueued() {
+        Event event = getCreatedEvent();
+
+        List<RegistrationCommand> commands = userTestUtils.insertUsers(NUMBER_REGISTRATIONS)
+                .stream()
+                .map(user -> asyncEventRegistrations.submit(event.getId(), user))
+                .toList();
+        Map<RegistrationCommandStatus, Long> statuses = commands
+                .stream()
+                .map(command -> awaitFinished(
+                        () -> asyncEventRegistrations.getCommand(command.id(), new User(command.userId())),
+                        RegistrationCommand::status
+                ))
+                .collect(Collectors.groupingBy(RegistrationCommand::status, Collectors.counting()));
+
+        Assertions.assertEquals(MAX_PLACES, statuses.get(RegistrationCommandStatus.REGISTERED));
+        Assertions.assertEquals(NUMBER_REGISTRATIONS - MAX_PLACES, statuses.get(RegistrationCommandStatus.REJECTED));
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+    }
+
+    private RegistrationCommandDto getCommandStatus(String statusLocation, User user) {
+        try {
+            String commandJson = mockMvc
+                    .perform(
+                            get(statusLocation)
+                                    .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            return objectMapper.readValue(commandJson, RegistrationCommandDto.class);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T awaitFinished(
+            Supplier<T> commandSupplier,
+            Function<T, RegistrationCommandStatus> statusGetter
+    ) {
+        long deadline = System.currentTimeMillis() + AWAIT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            T command = commandSupplier.get();
+            if (statusGetter.apply(command) != RegistrationCommandStatus.PENDING) {
+                return command;
+            }
+            LockSupport.parkNanos(POLL_INTERVAL_NANOS);
+        }
+
+        throw new AssertionError("Registration command was not processed in time");
+    }
+
+    private Event getCreatedEvent() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(MAX_PLACES);
+
+        return eventTestUtils.getCreatedEvent(
+                0,
+                MAX_PLACES,
+                location,
+                userTestUtils.getRegisteredUser()
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.controllers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationMode;
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationStatus;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.BulkRegistrationRequestDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.dto.BulkRegistrationResultDto;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EventRegistrationControllerBulkRegistrationTest extends AbstractTest {
+
+    private static final int MAX_PLACES = 10;
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldRegisterUsersPartially() throws Exception {
+        Event event = getCreatedEvent(MAX_PLACES - 3);
+        List<User> users = userTestUtils.insertUsers(4);
+        eventRegistrationService.registerForEvent(event.getId(), users.get(0));
+
+        List<BulkRegistrationResultDto> results = registerInBulk(
+                event,
+                List.of(
+                        users.get(0).getId(),
+                        Long.MAX_VALUE,
+                        users.get(1).getId(),
+                        users.get(2).getId(),
+                        users.get(1).getId(),
+                        users.get(3).getId()
+                ),
+                BulkRegistrationMode.PARTIAL
+        );
+
+        Assertions.assertEquals(
+                List.of(
+                        new BulkRegistrationResultDto(users.get(0).getId(), BulkRegistrationStatus.ALREADY_REGISTERED),
+                        new BulkRegistrationResultDto(Long.MAX_VALUE, BulkRegistrationStatus.USER_NOT_FOUND),
+                        new BulkRegistrationResultDto(users.get(1).getId(), BulkRegistrationStatus.REGISTERED),
+                        new BulkRegistrationResultDto(users.get(2).getId(), BulkRegistrationStatus.REGISTERED),
+                        new BulkRegistrationResultDto(users.get(3).getId(), BulkRegistrationStatus.NO_SEATS)
+                ),
+                results
+        );
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(users.get(1).getId(), event.getId()));
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(users.get(2).getId(), event.getId()));
+        Assertions.assertFalse(eventRegistrationService.isUserRegisteredForEvent(users.get(3).getId(), event.getId()));
+    }
+
+    @Test
+    void shouldRegisterNobodyWhenNotAllUsersFit() throws Exception {
+        Event event = getCreatedEvent(MAX_PLACES - 2);
+        List<User> users = userTestUtils.insertUsers(3);
+
+        List<BulkRegistrationResultDto> results = registerInBulk(
+                event,
+                users.stream().map(User::getId).toList(),
+                BulkRegistrationMode.ALL_OR_NOTHING
+        );
+
+        Assertions.assertEquals(
+                List.of(
+                        new BulkRegistrationResultDto(users.get(0).getId(), BulkRegistrationStatus.SKIPPED),
+                        new BulkRegistrationResultDto(users.get(1).getId(), BulkRegistrationStatus.SKIPPED),
+                        new BulkRegistrationResultDto(users.get(2).getId(), BulkRegistrationStatus.NO_SEATS)
+                ),
+                results
+        );
+        Assertions.assertEquals(MAX_PLACES - 2, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertTrue(eventService.getEventParticipants(event.getId()).isEmpty());
+    }
+
+    @Test
+    void shouldRegisterEveryoneWhenAllUsersFit() throws Exception {
+        Event event = getCreatedEvent(0);
+        List<Long> userIds = userTestUtils.insertUsers(MAX_PLACES)
+                .stream()
+                .map(User::getId)
+                .toList();
+
+        List<BulkRegistrationResultDto> results = registerInBulk(event, userIds, BulkRegistrationMode.ALL_OR_NOTHING);
+
+        Assertions.assertTrue(
+                results
+                        .stream()
+                        .allMatch(result -> result.status() == BulkRegistrationStatus.REGISTERED)
+        );
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(
+                userIds.stream().sorted().toList(),
+                eventService.getEventParticipants(event.getId()).stream().sorted().toList()
+        );
+    }
+
+    @Test
+    void shouldReturnForbiddenForUser() throws Exception {
+        Event event = getCreatedEvent(0);
+
+        mockMvc
+                .perform(
+                        post("/events/registrations/{eventId}/bulk", event.getId())
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(UserRole.USER))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        new BulkRegistrationRequestDto(List.of(1L), BulkRegistrationMode.PARTIAL)
+                                ))
+                )
+                .andExpect(status().isForbidden());
+    }
+
+    private List<BulkRegistrationResultDto> registerInBulk(
+            Event event,
+            List<Long> userIds,
+            BulkRegistrationMode mode
+    ) throws Exception {
+        String resultsJson = mockMvc
+                .perform(
+                        post("/events/registrations/{eventId}/bulk", event.getId())
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(UserRole.ADMIN))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        new BulkRegistrationRequestDto(userIds, mode)
+                                ))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readValue(resultsJson, new TypeReference<>() {
+        });
+    }
+
+    private Event getCreatedEvent(int occupiedPlaces) {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(MAX_PLACES);
+
+        return eventTestUtils.getCreatedEvent(
+                occupiedPlaces,
+                MAX_PLACES,
+                location,
+                userTestUtils.getRegisteredUser()
+        );
+    }
+}
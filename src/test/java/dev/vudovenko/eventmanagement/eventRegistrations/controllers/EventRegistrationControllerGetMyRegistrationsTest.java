@@ -2,22 +2,32 @@ package dev.vudovenko.eventmanagement.eventRegistrations.controllers;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.common.exceptionHandling.dto.ErrorMessageResponse;
+import dev.vudovenko.eventmanagement.common.exceptionHandling.exceptionMessages.ExceptionHandlerMessages;
 import dev.vudovenko.eventmanagement.common.mappers.DtoMapper;
 import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationRepository;
 import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.controllers.EventController;
 import dev.vudovenko.eventmanagement.events.domain.Event;
 import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.exceptions.InvalidPageTokenException;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.users.domain.User;
 import dev.vudovenko.eventmanagement.users.services.DefaultUserInitializer;
 import dev.vudovenko.eventmanagement.users.services.UserService;
 import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
 import dev.vudovenko.eventmanagement.utils.EventRegistrationTestUtils;
 import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -39,6 +49,8 @@ public class EventRegistrationControllerGetMyRegistrationsTest extends AbstractT
     private EventRegistrationTestUtils eventRegistrationTestUtils;
     @Autowired
     private EventTestUtils eventTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
 
     @Autowired
     private DtoMapper<Event, EventDto> eventDtoMapper;
@@ -85,6 +97,136 @@ public class EventRegistrationControllerGetMyRegistrationsTest extends AbstractT
         Assertions.assertTrue(eventsWithRegistration.containsAll(myEvents));
     }
 
+    @Test
+    void shouldPageMyRegistrations() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        List<Long> eventIds = IntStream.range(0, 7)
+                .mapToObj(i -> {
+                    Event event = eventTestUtils.getCreatedEvent();
+                    eventRegistrationService.registerForEvent(event.getId(), user);
+
+                    return event.getId();
+                })
+                .sorted()
+                .toList();
+
+        List<Long> pagedEventIds = new ArrayList<>();
+        String pageToken = null;
+        int pages = 0;
+        do {
+            MockHttpServletRequestBuilder request = get("/events/registrations/my")
+                    .param("pageSize", "3")
+                    .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user));
+            if (pageToken != null) {
+                request.param("pageToken", pageToken);
+            }
+
+            MockHttpServletResponse response = mockMvc
+                    .perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            List<EventDto> page = objectMapper.readValue(
+                    response.getContentAsString(),
+                    new TypeReference<>() {
+                    }
+            );
+
+            page.forEach(eventDto -> pagedEventIds.add(eventDto.id()));
+            pageToken = response.getHeader(EventController.NEXT_PAGE_TOKEN_HEADER);
+            pages++;
+        } while (pageToken != null);
+
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(eventIds, pagedEventIds);
+    }
+
+    @Test
+    void shouldNotAcceptRawEventIdAsPageToken() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        Event event = eventTestUtils.getCreatedEvent();
+        String rawPageToken = event.getId().toString();
+
+        String errorMessageResponseJson = mockMvc
+                .perform(
+                        get("/events/registrations/my")
+                                .param("pageToken", rawPageToken)
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                )
+                .andExpect(status().isBadRequest())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        ErrorMessageResponse errorMessageResponse = objectMapper
+                .readValue(errorMessageResponseJson, ErrorMessageResponse.class);
+
+        Assertions.assertEquals(
+                ExceptionHandlerMessages.INVALID_PAGE_TOKEN.getMessage(),
+                errorMessageResponse.message()
+        );
+        Assertions.assertEquals(
+                InvalidPageTokenException.MESSAGE_TEMPLATE.formatted(rawPageToken),
+                errorMessageResponse.detailedMessage()
+        );
+    }
+
+    @Test
+    void shouldFilterMyRegistrationsByStatus() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        Event waitingEvent = eventTestUtils.getCreatedEvent(EventStatus.WAIT_START);
+        Event startedEvent = eventTestUtils.getCreatedEvent(EventStatus.STARTED);
+        eventRegistrationService.registerForEvent(waitingEvent.getId(), user);
+        eventRegistrationService.registerForEvent(startedEvent.getId(), user);
+
+        String myEventsJson = mockMvc
+                .perform(
+                        get("/events/registrations/my")
+                                .param("status", EventStatus.STARTED.name())
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        List<EventDto> myEventsDtos = objectMapper.readValue(
+                myEventsJson,
+                new TypeReference<>() {
+                }
+        );
+
+        Assertions.assertEquals(
+                List.of(startedEvent.getId()),
+                myEventsDtos.stream().map(EventDto::id).toList()
+        );
+    }
+
+    @Test
+    void shouldStreamMyRegistrationsAsNdjson() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        eventRegistrationTestUtils.createEventRegistration();
+
+        Set<Long> eventIds = IntStream.range(0, 3)
+                .mapToObj(i -> {
+                    Event event = eventTestUtils.getCreatedEvent();
+                    eventRegistrationService.registerForEvent(event.getId(), user);
+
+                    return event.getId();
+                })
+                .collect(Collectors.toSet());
+
+        List<EventDto> myEventsDtos = performNdjsonRequest(
+                get("/events/registrations/my")
+                        .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user)),
+                EventDto.class
+        );
+
+        Assertions.assertEquals(
+                eventIds,
+                myEventsDtos.stream().map(EventDto::id).collect(Collectors.toSet())
+        );
+    }
+
     @Test
     void shouldReturnForbiddenWhenAdminGetHisEvents() throws Exception {
         mockMvc
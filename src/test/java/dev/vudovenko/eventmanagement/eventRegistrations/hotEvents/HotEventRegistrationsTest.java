@@ -0,0 +1,246 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.hotEvents;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.bulk.BulkRegistrationMode;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.BulkRegistrationResult;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.EventStatusNotAllowedForRegistrationException;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.dto.EventUpdateRequestDto;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class HotEventRegistrationsTest extends AbstractTest {
+
+    private static final int MAX_PLACES = 10;
+    private static final int NUMBER_REGISTRATIONS = 2000;
+    private static final int NUMBER_THREADS = 32;
+
+    @MockitoSpyBean
+    private HotEventRegistrations hotEventRegistrations;
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldNotOverbookHotEvent() throws InterruptedException {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        List<User> users = userTestUtils.insertUsers(NUMBER_REGISTRATIONS);
+
+        AtomicInteger registered = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_THREADS);
+        users.forEach(user -> executorService.submit(() -> {
+            try {
+                start.await();
+                eventRegistrationService.registerForEvent(event.getId(), user);
+                registered.incrementAndGet();
+            } catch (InsufficientSeatsException e) {
+                rejected.incrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        start.countDown();
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+
+        hotEventRegistrations.flush(event.getId());
+
+        Assertions.assertEquals(MAX_PLACES, registered.get());
+        Assertions.assertEquals(NUMBER_REGISTRATIONS - MAX_PLACES, rejected.get());
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(MAX_PLACES, eventService.getEventParticipants(event.getId()).size());
+    }
+
+    @Test
+    void shouldRecoverOccupiedPlacesFromRegistrations() {
+        Event event = getCreatedEvent(5);
+        User user = userTestUtils.insertUsers(1).get(0);
+        eventRegistrationService.registerForEvent(event.getId(), user);
+
+        eventRegistrationService.enableHotEventMode(event.getId());
+
+        Assertions.assertTrue(hotEventRegistrations.isEnabled(event.getId()));
+        Assertions.assertEquals(1, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertThrows(
+                InsufficientSeatsException.class,
+                () -> {
+                    for (User otherUser : userTestUtils.insertUsers(MAX_PLACES)) {
+                        eventRegistrationService.registerForEvent(event.getId(), otherUser);
+                    }
+                }
+        );
+    }
+
+    @Test
+    void shouldReleaseSeatOnCancellation() {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        List<User> users = userTestUtils.insertUsers(MAX_PLACES + 1);
+        users.subList(0, MAX_PLACES)
+                .forEach(user -> eventRegistrationService.registerForEvent(event.getId(), user));
+        User lastUser = users.get(MAX_PLACES);
+
+        Assertions.assertThrows(
+                InsufficientSeatsException.class,
+                () -> eventRegistrationService.registerForEvent(event.getId(), lastUser)
+        );
+
+        eventRegistrationService.cancelRegistration(event.getId(), users.get(0));
+        eventRegistrationService.registerForEvent(event.getId(), lastUser);
+        eventRegistrationService.disableHotEventMode(event.getId());
+
+        Assertions.assertFalse(hotEventRegistrations.isEnabled(event.getId()));
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(lastUser.getId(), event.getId()));
+        Assertions.assertFalse(eventRegistrationService.isUserRegisteredForEvent(users.get(0).getId(), event.getId()));
+    }
+
+    @Test
+    void shouldSkipRegistrationOfMissingUserOnFlush() {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        List<User> users = userTestUtils.insertUsers(MAX_PLACES + 1);
+        User deletedUser = users.get(0);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", deletedUser.getId());
+
+        users.subList(0, MAX_PLACES)
+                .forEach(user -> hotEventRegistrations.tryRegister(event.getId(), user.getId()));
+        hotEventRegistrations.flush(event.getId());
+
+        Assertions.assertEquals(MAX_PLACES - 1, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(MAX_PLACES - 1, eventService.getEventParticipants(event.getId()).size());
+
+        User lastUser = users.get(MAX_PLACES);
+        eventRegistrationService.registerForEvent(event.getId(), lastUser);
+        hotEventRegistrations.flush(event.getId());
+
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(lastUser.getId(), event.getId()));
+    }
+
+    @Test
+    void shouldKeepBulkRegistrationErrorWhenHotModeFailsToEnable() {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        List<Long> userIds = userTestUtils.insertUsers(MAX_PLACES)
+                .stream()
+                .map(User::getId)
+                .toList();
+        jdbcTemplate.update("UPDATE events SET status = 'CANCELLED' WHERE id = ?", event.getId());
+        IllegalStateException enableException = new IllegalStateException("enable failed");
+        Mockito.doThrow(enableException).when(hotEventRegistrations).enable(event.getId());
+
+        EventStatusNotAllowedForRegistrationException exception = Assertions.assertThrows(
+                EventStatusNotAllowedForRegistrationException.class,
+                () -> eventRegistrationService.registerForEventInBulk(
+                        event.getId(),
+                        userIds,
+                        BulkRegistrationMode.ALL_OR_NOTHING
+                )
+        );
+
+        Assertions.assertArrayEquals(new Throwable[]{enableException}, exception.getSuppressed());
+        Assertions.assertFalse(hotEventRegistrations.isEnabled(event.getId()));
+    }
+
+    @Test
+    void shouldReturnBulkRegistrationResultWhenHotModeFailsToEnable() {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        List<Long> userIds = userTestUtils.insertUsers(MAX_PLACES)
+                .stream()
+                .map(User::getId)
+                .toList();
+        Mockito.doThrow(new IllegalStateException("enable failed"))
+                .when(hotEventRegistrations)
+                .enable(event.getId());
+
+        List<BulkRegistrationResult> results = eventRegistrationService.registerForEventInBulk(
+                event.getId(),
+                userIds,
+                BulkRegistrationMode.ALL_OR_NOTHING
+        );
+
+        Assertions.assertEquals(MAX_PLACES, results.size());
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertFalse(hotEventRegistrations.isEnabled(event.getId()));
+    }
+
+    @Test
+    void shouldRejectMaxPlacesBelowHotRegistrationsNotYetFlushed() throws Exception {
+        Event event = getCreatedEvent(0);
+        eventRegistrationService.enableHotEventMode(event.getId());
+        userTestUtils.insertUsers(MAX_PLACES - 2)
+                .forEach(user -> eventRegistrationService.registerForEvent(event.getId(), user));
+        EventUpdateRequestDto eventUpdateRequestDto = new EventUpdateRequestDto(
+                event.getName(),
+                MAX_PLACES - 4,
+                event.getDate(),
+                event.getCost(),
+                event.getDuration(),
+                event.getLocation().getId()
+        );
+
+        mockMvc
+                .perform(
+                        put("/events/{id}", event.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventUpdateRequestDto))
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(UserRole.ADMIN))
+                )
+                .andExpect(status().isBadRequest());
+
+        Event notUpdatedEvent = eventService.findById(event.getId());
+        Assertions.assertEquals(MAX_PLACES, notUpdatedEvent.getMaxPlaces());
+        Assertions.assertEquals(MAX_PLACES - 2, notUpdatedEvent.getOccupiedPlaces());
+        Assertions.assertTrue(hotEventRegistrations.isEnabled(event.getId()));
+    }
+
+    private Event getCreatedEvent(int occupiedPlaces) {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(MAX_PLACES);
+
+        return eventTestUtils.getCreatedEvent(
+                occupiedPlaces,
+                MAX_PLACES,
+                location,
+                userTestUtils.getRegisteredUser()
+        );
+    }
+}
@@ -0,0 +1,124 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.services;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.AlreadyRegisteredForEventException;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Проверяет, что параллельные регистрации не занимают больше мест, чем есть на мероприятии
+ */
+class EventRegistrationConcurrencyTest extends AbstractTest {
+
+    private static final int MAX_PLACES = 100;
+    private static final int FREE_PLACES = 10;
+    private static final int NUMBER_REGISTRATIONS = 2000;
+    private static final int NUMBER_THREADS = 32;
+
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldNotOverbookNearlyFullEvent() throws InterruptedException {
+        Event event = getCreatedEvent(MAX_PLACES - FREE_PLACES);
+        List<User> users = userTestUtils.insertUsers(NUMBER_REGISTRATIONS);
+
+        Map<Class<?>, Integer> outcomes = registerConcurrently(event, users);
+
+        Assertions.assertEquals(FREE_PLACES, outcomes.getOrDefault(Void.class, 0));
+        Assertions.assertEquals(
+                NUMBER_REGISTRATIONS - FREE_PLACES,
+                outcomes.getOrDefault(InsufficientSeatsException.class, 0)
+        );
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(
+                FREE_PLACES,
+                eventService.getEventParticipants(event.getId()).size()
+        );
+    }
+
+    @Test
+    void shouldRegisterSameUserOnlyOnce() throws InterruptedException {
+        Event event = getCreatedEvent(0);
+        User user = userTestUtils.insertUsers(1).get(0);
+
+        Map<Class<?>, Integer> outcomes = registerConcurrently(
+                event,
+                Collections.nCopies(NUMBER_THREADS * 4, user)
+        );
+
+        Assertions.assertEquals(1, outcomes.getOrDefault(Void.class, 0));
+        Assertions.assertEquals(
+                NUMBER_THREADS * 4 - 1,
+                outcomes.getOrDefault(AlreadyRegisteredForEventException.class, 0)
+        );
+        Assertions.assertEquals(1, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(List.of(user.getId()), eventService.getEventParticipants(event.getId()));
+    }
+
+    private Event getCreatedEvent(int occupiedPlaces) {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(MAX_PLACES);
+
+        return eventTestUtils.getCreatedEvent(
+                occupiedPlaces,
+                MAX_PLACES,
+                location,
+                userTestUtils.getRegisteredUser()
+        );
+    }
+
+    /**
+     * @return количество регистраций по исходам: Void - успешная регистрация, иначе класс исключения
+     */
+    private Map<Class<?>, Integer> registerConcurrently(
+            Event event,
+            List<User> users
+    ) throws InterruptedException {
+        Map<Class<?>, Integer> outcomes = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(NUMBER_THREADS);
+
+        users.forEach(user -> executorService.submit(() -> {
+            Class<?> outcome = Void.class;
+            try {
+                start.await();
+                eventRegistrationService.registerForEvent(event.getId(), user);
+            } catch (Exception e) {
+                outcome = e.getClass();
+            }
+            outcomes.merge(outcome, 1, Integer::sum);
+        }));
+
+        start.countDown();
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(2, TimeUnit.MINUTES));
+
+        return outcomes;
+    }
+}
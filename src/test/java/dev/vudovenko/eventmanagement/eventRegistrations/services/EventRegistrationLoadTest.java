@@ -0,0 +1,342 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.services;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.hotEvents.HotEventRegistrations;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.exceptions.InsufficientSeatsException;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Нагрузочный прогон регистраций и отмен на одном и на многих мероприятиях.
+ * Каждый виртуальный пользователь в цикле регистрируется на мероприятие и отменяет регистрацию.
+ * По каждому сценарию в лог выводятся пропускная способность, задержки p50/p99,
+ * количество нарушений счетчика мест и взаимных блокировок.
+ * <p>
+ * Не входит в обычный прогон тестов, запускается профилем: mvn test -Pload-test.
+ * Размер нагрузки задается свойствами registration-load-test.*, например
+ * -Dregistration-load-test.virtual-users=1000
+ */
+@Log4j2
+@Tag("load")
+class EventRegistrationLoadTest extends AbstractTest {
+
+    private static final String COUNT_OVERBOOKING_VIOLATIONS_SQL = """
+            SELECT count(*)
+            FROM events e
+            WHERE e.id = ANY(?)
+              AND (e.occupied_places > e.max_places
+                OR e.occupied_places <> (SELECT count(*)
+                                         FROM "event-registrations" er
+                                         WHERE er.event_id = e.id))
+            """;
+    private static final String GET_DEADLOCKS_SQL = """
+            SELECT deadlocks
+            FROM pg_stat_database
+            WHERE datname = current_database()
+            """;
+
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private HotEventRegistrations hotEventRegistrations;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Value("${registration-load-test.virtual-users}")
+    private int virtualUsers;
+    @Value("${registration-load-test.iterations}")
+    private int iterations;
+    @Value("${registration-load-test.events}")
+    private int numberEvents;
+    @Value("${registration-load-test.max-places}")
+    private int maxPlaces;
+    @Value("${registration-load-test.threads}")
+    private int numberThreads;
+
+    @Test
+    void shouldRegisterWithoutOverbookingOnOneEvent() throws InterruptedException {
+        List<Event> events = getCreatedEvents(1);
+
+        LoadTestReport report = runLoad("one event", events);
+
+        assertNoViolations(report);
+    }
+
+    @Test
+    void shouldRegisterWithoutOverbookingOnManyEvents() throws InterruptedException {
+        List<Event> events = getCreatedEvents(numberEvents);
+
+        LoadTestReport report = runLoad("many events", events);
+
+        assertNoViolations(report);
+    }
+
+    @Test
+    void shouldRegisterWithoutOverbookingOnOneHotEvent() throws InterruptedException {
+        List<Event> events = getCreatedEvents(1);
+        hotEventRegistrations.enable(events.get(0).getId());
+
+        LoadTestReport report;
+        try {
+            report = runLoad("one hot event", events);
+        } finally {
+            hotEventRegistrations.disable(events.get(0).getId());
+        }
+
+        assertNoViolations(report);
+    }
+
+    private List<Event> getCreatedEvents(int count) {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(maxPlaces);
+        User eventCreator = userTestUtils.getRegisteredUser();
+
+        return IntStream.range(0, count)
+                .mapToObj(i -> eventTestUtils.getCreatedEvent(0, maxPlaces, location, eventCreator))
+                .toList();
+    }
+
+    private LoadTestReport runLoad(String scenario, List<Event> events) throws InterruptedException {
+        List<User> users = userTestUtils.insertUsers(virtualUsers);
+        Long[] eventIds = events.stream().map(Event::getId).toArray(Long[]::new);
+        long[][] latencies = new long[virtualUsers][];
+        Map<Class<?>, Integer> errors = new ConcurrentHashMap<>();
+        AtomicInteger lockFailures = new AtomicInteger();
+        AtomicInteger violations = new AtomicInteger();
+        long deadlocksBefore = getDeadlocks();
+
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleWithFixedDelay(
+                () -> violations.addAndGet(countViolations(eventIds)),
+                0,
+                100,
+                TimeUnit.MILLISECONDS
+        );
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(numberThreads);
+        for (int i = 0; i < virtualUsers; i++) {
+            int virtualUser = i;
+            executorService.submit(() -> {
+                latencies[virtualUser] = runVirtualUser(
+                        users.get(virtualUser),
+                        eventIds[virtualUser % eventIds.length],
+                        start,
+                        errors,
+                        lockFailures
+                );
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executorService.shutdown();
+        Assertions.assertTrue(executorService.awaitTermination(10, TimeUnit.MINUTES));
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        sampler.shutdown();
+        Assertions.assertTrue(sampler.awaitTermination(1, TimeUnit.MINUTES));
+        hotEventRegistrations.flushAll();
+        violations.addAndGet(countViolations(eventIds));
+
+        LoadTestReport report = LoadTestReport.of(
+                scenario,
+                latencies,
+                elapsedNanos,
+                violations.get(),
+                Math.max(lockFailures.get(), getDeadlocks() - deadlocksBefore),
+                errors
+        );
+        log.info(report);
+
+        return report;
+    }
+
+    /**
+     * @return задержки операций в наносекундах
+     */
+    private long[] runVirtualUser(
+            User user,
+            Long eventId,
+            CountDownLatch start,
+            Map<Class<?>, Integer> errors,
+            AtomicInteger lockFailures
+    ) {
+        long[] latencies = new long[iterations * 2];
+        int operations = 0;
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return latencies;
+        }
+
+        for (int i = 0; i < iterations; i++) {
+            long operationStartedAt = System.nanoTime();
+            boolean registered = perform(
+                    () -> eventRegistrationService.registerForEvent(eventId, user),
+                    errors,
+                    lockFailures
+            );
+            latencies[operations++] = System.nanoTime() - operationStartedAt;
+            if (!registered) {
+                continue;
+            }
+
+            operationStartedAt = System.nanoTime();
+            perform(() -> eventRegistrationService.cancelRegistration(eventId, user), errors, lockFailures);
+            latencies[operations++] = System.nanoTime() - operationStartedAt;
+        }
+
+        return Arrays.copyOf(latencies, operations);
+    }
+
+    /**
+     * Нехватка мест - ожидаемый исход, остальные исключения считаются ошибками
+     *
+     * @return true, если операция выполнена
+     */
+    private static boolean perform(
+            Runnable operation,
+            Map<Class<?>, Integer> errors,
+            AtomicInteger lockFailures
+    ) {
+        try {
+            operation.run();
+            return true;
+        } catch (InsufficientSeatsException e) {
+            return false;
+        } catch (PessimisticLockingFailureException e) {
+            lockFailures.incrementAndGet();
+            errors.merge(e.getClass(), 1, Integer::sum);
+            return false;
+        } catch (RuntimeException e) {
+            errors.merge(e.getClass(), 1, Integer::sum);
+            return false;
+        }
+    }
+
+    private int countViolations(Long[] eventIds) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_OVERBOOKING_VIOLATIONS_SQL, Integer.class, (Object) eventIds);
+
+        return count == null ? 0 : count;
+    }
+
+    private long getDeadlocks() {
+        Long deadlocks = jdbcTemplate.queryForObject(GET_DEADLOCKS_SQL, Long.class);
+
+        return deadlocks == null ? 0 : deadlocks;
+    }
+
+    private static void assertNoViolations(LoadTestReport report) {
+        Assertions.assertEquals(0, report.overbookingViolations(), report.toString());
+        Assertions.assertEquals(0, report.deadlocks(), report.toString());
+        Assertions.assertEquals(Map.of(), report.errors(), report.toString());
+    }
+
+    private record LoadTestReport(
+
+            String scenario,
+
+            int operations,
+
+            double throughputPerSecond,
+
+            double p50Millis,
+
+            double p99Millis,
+
+            int overbookingViolations,
+
+            long deadlocks,
+
+            Map<Class<?>, Integer> errors
+    ) {
+
+        static LoadTestReport of(
+                String scenario,
+                long[][] latenciesByUser,
+                long elapsedNanos,
+                int overbookingViolations,
+                long deadlocks,
+                Map<Class<?>, Integer> errors
+        ) {
+            List<long[]> nonEmptyLatencies = new ArrayList<>();
+            for (long[] latencies : latenciesByUser) {
+                if (latencies != null) {
+                    nonEmptyLatencies.add(latencies);
+                }
+            }
+            long[] latencies = nonEmptyLatencies.stream()
+                    .flatMapToLong(Arrays::stream)
+                    .sorted()
+                    .toArray();
+
+            return new LoadTestReport(
+                    scenario,
+                    latencies.length,
+                    latencies.length * 1e9 / elapsedNanos,
+                    percentileMillis(latencies, 0.50),
+                    percentileMillis(latencies, 0.99),
+                    overbookingViolations,
+                    deadlocks,
+                    Map.copyOf(errors)
+            );
+        }
+
+        private static double percentileMillis(long[] sortedLatencies, double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return ("Registration load [%s]: %d operations, %.1f ops/s, p50 %.2f ms, p99 %.2f ms, "
+                    + "overbooking violations %d, deadlocks %d, errors %s")
+                    .formatted(
+                            scenario,
+                            operations,
+                            throughputPerSecond,
+                            p50Millis,
+                            p99Millis,
+                            overbookingViolations,
+                            deadlocks,
+                            errors
+                    );
+        }
+    }
+}
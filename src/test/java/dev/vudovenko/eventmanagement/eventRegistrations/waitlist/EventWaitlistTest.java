@@ -0,0 +1,219 @@
+package dev.vudovenko.eventmanagement.eventRegistrations.waitlist;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.domain.WaitlistPosition;
+import dev.vudovenko.eventmanagement.eventRegistrations.exceptions.WaitlistEntryNotFoundException;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.changes.dto.EventChangeDto;
+import dev.vudovenko.eventmanagement.events.changes.senders.EventChangeSender;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventMaxPlacesIncreasedEvent;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+class EventWaitlistTest extends AbstractTest {
+
+    private static final int MAX_PLACES = 3;
+
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockitoSpyBean
+    private EventChangeSender eventChangeSender;
+
+    @BeforeEach
+    void stubKafka() {
+        Mockito.doNothing().when(eventChangeSender).sendEvents(ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void shouldRegisterWhenSeatsAreFree() {
+        Event event = getCreatedEvent();
+        User user = userTestUtils.insertUsers(1).get(0);
+
+        WaitlistPosition waitlistPosition = eventRegistrationService.joinWaitlist(event.getId(), user);
+
+        Assertions.assertTrue(waitlistPosition.registered());
+        Assertions.assertNull(waitlistPosition.position());
+        Assertions.assertTrue(eventRegistrationService.isUserRegisteredForEvent(user.getId(), event.getId()));
+    }
+
+    @Test
+    void shouldQueueUsersInJoinOrder() {
+        Event event = getCreatedEvent();
+        registerUsers(event, MAX_PLACES);
+        List<User> waitingUsers = userTestUtils.insertUsers(3);
+
+        List<Integer> positions = waitingUsers
+                .stream()
+                .map(user -> eventRegistrationService.joinWaitlist(event.getId(), user).position())
+                .toList();
+
+        Assertions.assertEquals(List.of(1, 2, 3), positions);
+        Assertions.assertEquals(
+                2,
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(1)).position()
+        );
+        Assertions.assertEquals(
+                1,
+                eventRegistrationService.joinWaitlist(event.getId(), waitingUsers.get(0)).position()
+        );
+    }
+
+    @Test
+    void shouldPromoteHeadOnCancellation() {
+        Event event = getCreatedEvent();
+        User cancellingUser = registerUsers(event, MAX_PLACES).get(0);
+        List<User> waitingUsers = userTestUtils.insertUsers(2);
+        waitingUsers.forEach(user -> eventRegistrationService.joinWaitlist(event.getId(), user));
+
+        eventRegistrationService.cancelRegistration(event.getId(), cancellingUser);
+
+        Assertions.assertTrue(
+                eventRegistrationService.isUserRegisteredForEvent(waitingUsers.get(0).getId(), event.getId())
+        );
+        Assertions.assertTrue(
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(0)).registered()
+        );
+        Assertions.assertEquals(
+                1,
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(1)).position()
+        );
+        Assertions.assertEquals(MAX_PLACES, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(MAX_PLACES, eventService.getEventParticipants(event.getId()).size());
+        Assertions.assertEquals(List.of(MAX_PLACES), getSentParticipantCounts(event.getId()));
+    }
+
+    @Test
+    void shouldNotPromoteHeadOnCancellationForCancelledEvent() {
+        Event event = getCreatedEvent();
+        User cancellingUser = registerUsers(event, MAX_PLACES).get(0);
+        User waitingUser = userTestUtils.insertUsers(1).get(0);
+        eventRegistrationService.joinWaitlist(event.getId(), waitingUser);
+        jdbcTemplate.update("UPDATE events SET status = 'CANCELLED' WHERE id = ?", event.getId());
+
+        eventRegistrationService.cancelRegistration(event.getId(), cancellingUser);
+
+        Assertions.assertFalse(
+                eventRegistrationService.isUserRegisteredForEvent(waitingUser.getId(), event.getId())
+        );
+        Assertions.assertEquals(
+                1,
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUser).position()
+        );
+        Assertions.assertEquals(MAX_PLACES - 1, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(List.of(), getSentParticipantCounts(event.getId()));
+    }
+
+    @Test
+    void shouldPromoteHeadsWhenMaxPlacesIncreased() {
+        Event event = getCreatedEvent();
+        registerUsers(event, MAX_PLACES);
+        List<User> waitingUsers = userTestUtils.insertUsers(3);
+        waitingUsers.forEach(user -> eventRegistrationService.joinWaitlist(event.getId(), user));
+
+        jdbcTemplate.update("UPDATE events SET max_places = ? WHERE id = ?", MAX_PLACES + 2, event.getId());
+        applicationEventPublisher.publishEvent(new EventMaxPlacesIncreasedEvent(event.getId()));
+
+        Assertions.assertTrue(
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(0)).registered()
+        );
+        Assertions.assertTrue(
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(1)).registered()
+        );
+        Assertions.assertEquals(
+                1,
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(2)).position()
+        );
+        Assertions.assertEquals(MAX_PLACES + 2, eventService.findById(event.getId()).getOccupiedPlaces());
+        Assertions.assertEquals(MAX_PLACES + 2, eventService.getEventParticipants(event.getId()).size());
+        Assertions.assertEquals(List.of(MAX_PLACES + 2), getSentParticipantCounts(event.getId()));
+    }
+
+    @Test
+    void shouldFreeSeatWhenWaitlistIsEmpty() {
+        Event event = getCreatedEvent();
+        User user = registerUsers(event, 1).get(0);
+
+        eventRegistrationService.cancelRegistration(event.getId(), user);
+
+        Assertions.assertEquals(0, eventService.findById(event.getId()).getOccupiedPlaces());
+    }
+
+    @Test
+    void shouldLeaveWaitlist() {
+        Event event = getCreatedEvent();
+        registerUsers(event, MAX_PLACES);
+        List<User> waitingUsers = userTestUtils.insertUsers(2);
+        waitingUsers.forEach(user -> eventRegistrationService.joinWaitlist(event.getId(), user));
+
+        eventRegistrationService.leaveWaitlist(event.getId(), waitingUsers.get(0));
+
+        Assertions.assertThrows(
+                WaitlistEntryNotFoundException.class,
+                () -> eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(0))
+        );
+        Assertions.assertEquals(
+                1,
+                eventRegistrationService.getWaitlistPosition(event.getId(), waitingUsers.get(1)).position()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> getSentParticipantCounts(Long eventId) {
+        ArgumentCaptor<List<EventChangeDto>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(eventChangeSender, Mockito.atLeast(0)).sendEvents(captor.capture());
+
+        return captor.getAllValues()
+                .stream()
+                .flatMap(List::stream)
+                .filter(eventChangeDto -> eventChangeDto.eventId().equals(eventId))
+                .map(eventChangeDto -> eventChangeDto.participants().size())
+                .toList();
+    }
+
+    private List<User> registerUsers(Event event, int count) {
+        List<User> users = userTestUtils.insertUsers(count);
+        users.forEach(user -> eventRegistrationService.registerForEvent(event.getId(), user));
+
+        return users;
+    }
+
+    private Event getCreatedEvent() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(MAX_PLACES);
+
+        return eventTestUtils.getCreatedEvent(
+                0,
+                MAX_PLACES,
+                location,
+                userTestUtils.getRegisteredUser()
+        );
+    }
+}
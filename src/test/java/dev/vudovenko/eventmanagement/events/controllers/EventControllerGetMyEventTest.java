@@ -12,11 +12,13 @@ import dev.vudovenko.eventmanagement.users.services.DefaultUserInitializer;
 import dev.vudovenko.eventmanagement.users.services.UserService;
 import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
 import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -36,6 +38,8 @@ public class EventControllerGetMyEventTest extends AbstractTest {
     private EventRepository eventRepository;
     @Autowired
     private EventTestUtils eventTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
 
 
     @Autowired
@@ -79,6 +83,27 @@ public class EventControllerGetMyEventTest extends AbstractTest {
         Assertions.assertTrue(events.containsAll(myEvents));
     }
 
+    @Test
+    void shouldStreamMyEventsAsNdjson() throws Exception {
+        User user = userTestUtils.getRegisteredUser();
+        eventTestUtils.getCreatedEvent();
+
+        Set<Long> eventIds = IntStream.range(0, 3)
+                .mapToObj(i -> eventTestUtils.getCreatedEvent(user).getId())
+                .collect(Collectors.toSet());
+
+        List<EventDto> myEventsDtos = performNdjsonRequest(
+                get("/events/my")
+                        .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(user)),
+                EventDto.class
+        );
+
+        Assertions.assertEquals(
+                eventIds,
+                myEventsDtos.stream().map(EventDto::id).collect(Collectors.toSet())
+        );
+    }
+
     @Test
     void shouldReturnForbiddenWhenAdminGetHisEvents() throws Exception {
         mockMvc
@@ -9,7 +9,10 @@ import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegist
 import dev.vudovenko.eventmanagement.events.domain.Event;
 import dev.vudovenko.eventmanagement.events.dto.EventDto;
 import dev.vudovenko.eventmanagement.events.dto.EventSearchRequestDto;
+import dev.vudovenko.eventmanagement.events.exceptions.InvalidPageTokenException;
 import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
 import dev.vudovenko.eventmanagement.events.services.EventService;
 import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.locations.domain.Location;
@@ -22,9 +25,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -103,7 +111,11 @@ public class EventControllerSearchEventsTest extends AbstractTest {
                 44,
                 601,
                 location.getId(),
-                EventStatus.WAIT_START
+                EventStatus.WAIT_START,
+                null,
+                null,
+                null,
+                null
         );
 
         String eventSearchRequestDtoJson = objectMapper.writeValueAsString(eventSearchRequestDto);
@@ -146,6 +158,29 @@ public class EventControllerSearchEventsTest extends AbstractTest {
         compareDatesWithTruncatedToSeconds(event2.getDate(), eventFromSearch2.getDate());
     }
 
+    private List<EventDto> searchEvents(
+            EventSearchRequestDto eventSearchRequestDto,
+            UserRole role
+    ) throws Exception {
+        String foundEventsJson = mockMvc
+                .perform(
+                        post("/events/search")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventSearchRequestDto))
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(role))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readValue(
+                foundEventsJson,
+                new TypeReference<>() {
+                }
+        );
+    }
+
     @Test
     void shouldReturnUnauthorizedWhenSearchEventWithoutAuthorization() throws Exception {
         mockMvc
@@ -194,6 +229,165 @@ public class EventControllerSearchEventsTest extends AbstractTest {
         Assertions.assertEquals(foundEventsDto.size(), numberEvents);
     }
 
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldSearchEventsPageByPage(UserRole role) throws Exception {
+        eventRegistrationRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        int numberEvents = 7;
+        int pageSize = 3;
+        IntStream.range(0, numberEvents)
+                .forEach(i -> eventTestUtils.getCreatedEvent());
+
+        List<EventDto> foundEventsDto = new ArrayList<>();
+        String pageToken = null;
+        int numberPages = 0;
+        do {
+            EventSearchRequestDto eventSearchRequestDto = eventSearchRequestDtoTestUtils
+                    .getBlankEventSearchRequestDto(pageSize, pageToken);
+
+            MockHttpServletResponse response = mockMvc
+                    .perform(
+                            post("/events/search")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(eventSearchRequestDto))
+                                    .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(role))
+                    )
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+
+            List<EventDto> pageEventsDto = objectMapper.readValue(
+                    response.getContentAsString(),
+                    new TypeReference<>() {
+                    }
+            );
+            Assertions.assertTrue(pageEventsDto.size() <= pageSize);
+
+            foundEventsDto.addAll(pageEventsDto);
+            pageToken = response.getHeader(EventController.NEXT_PAGE_TOKEN_HEADER);
+            numberPages++;
+        } while (pageToken != null);
+
+        Assertions.assertEquals(3, numberPages);
+        Assertions.assertEquals(numberEvents, foundEventsDto.size());
+        Assertions.assertEquals(
+                numberEvents,
+                foundEventsDto.stream().map(EventDto::id).distinct().count()
+        );
+        Assertions.assertEquals(
+                foundEventsDto
+                        .stream()
+                        .sorted(Comparator.comparing(EventDto::date).thenComparing(EventDto::id))
+                        .toList(),
+                foundEventsDto
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldSearchEventsByWordsInName(UserRole role) throws Exception {
+        String word = "word" + Math.abs(RandomUtils.getRandomInt());
+        Event firstEvent = eventTestUtils.getCreatedEvent("conference " + word + " kotlin");
+        Event secondEvent = eventTestUtils.getCreatedEvent(word + " meetup");
+        eventTestUtils.getCreatedEvent("conference " + word + "suffix");
+
+        List<EventDto> foundEventsDto = searchEvents(
+                eventSearchRequestDtoTestUtils.getEventSearchRequestDtoByName(
+                        word,
+                        EventNameSearchMode.FULL_TEXT,
+                        null
+                ),
+                role
+        );
+
+        Assertions.assertEquals(
+                Set.of(firstEvent.getId(), secondEvent.getId()),
+                foundEventsDto.stream().map(EventDto::id).collect(Collectors.toSet())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldSortEventsByRelevance(UserRole role) throws Exception {
+        String word = "word" + Math.abs(RandomUtils.getRandomInt());
+        Event partialMatchEvent = eventTestUtils.getCreatedEvent("big annual conference about " + word);
+        Event exactMatchEvent = eventTestUtils.getCreatedEvent(word);
+
+        for (EventNameSearchMode nameSearchMode : EventNameSearchMode.values()) {
+            List<EventDto> foundEventsDto = searchEvents(
+                    eventSearchRequestDtoTestUtils.getEventSearchRequestDtoByName(
+                            word,
+                            nameSearchMode,
+                            EventSearchSort.RELEVANCE
+                    ),
+                    role
+            );
+
+            Assertions.assertEquals(
+                    List.of(exactMatchEvent.getId(), partialMatchEvent.getId()),
+                    foundEventsDto.stream().map(EventDto::id).toList()
+            );
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldStreamAllFoundEventsAsNdjson(UserRole role) throws Exception {
+        String word = "word" + Math.abs(RandomUtils.getRandomInt());
+        List<Long> eventIds = IntStream.range(0, 3)
+                .mapToObj(i -> eventTestUtils.getCreatedEvent(word + " " + i).getId())
+                .toList();
+
+        List<EventDto> foundEventsDto = performNdjsonRequest(
+                post("/events/search")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                eventSearchRequestDtoTestUtils.getEventSearchRequestDtoByName(word, null, null)
+                        ))
+                        .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(role)),
+                EventDto.class
+        );
+
+        Assertions.assertEquals(
+                eventIds,
+                foundEventsDto.stream().map(EventDto::id).toList()
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldNotSearchEventsWithInvalidPageToken(UserRole role) throws Exception {
+        String invalidPageToken = "invalid-token-" + RandomUtils.getRandomInt();
+        EventSearchRequestDto eventSearchRequestDto = eventSearchRequestDtoTestUtils
+                .getBlankEventSearchRequestDto(10, invalidPageToken);
+
+        String errorMessageResponseJson = mockMvc
+                .perform(
+                        post("/events/search")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventSearchRequestDto))
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(role))
+                )
+                .andExpect(status().isBadRequest())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        ErrorMessageResponse errorMessageResponse = objectMapper
+                .readValue(errorMessageResponseJson, ErrorMessageResponse.class);
+
+        Assertions.assertEquals(
+                errorMessageResponse.message(),
+                ExceptionHandlerMessages.INVALID_PAGE_TOKEN.getMessage()
+        );
+        Assertions.assertEquals(
+                errorMessageResponse.detailedMessage(),
+                InvalidPageTokenException.MESSAGE_TEMPLATE.formatted(invalidPageToken)
+        );
+    }
+
     @ParameterizedTest
     @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
     void shouldNotSearchEventsWhenNotValid(UserRole role) throws Exception {
@@ -231,6 +425,7 @@ public class EventControllerSearchEventsTest extends AbstractTest {
         Assertions.assertTrue(detailedMessage.contains("costMax:"));
         Assertions.assertTrue(detailedMessage.contains("durationMin:"));
         Assertions.assertTrue(detailedMessage.contains("durationMax:"));
+        Assertions.assertTrue(detailedMessage.contains("pageSize:"));
 
         Assertions.assertNotNull(errorMessageResponse.dateTime());
         Assertions.assertTrue(
@@ -0,0 +1,158 @@
+package dev.vudovenko.eventmanagement.events.controllers;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFacets;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.dto.EventFacetRangeDto;
+import dev.vudovenko.eventmanagement.events.dto.EventSearchFacetsDto;
+import dev.vudovenko.eventmanagement.events.dto.EventSearchRequestDto;
+import dev.vudovenko.eventmanagement.events.repositories.EventSearchRepository;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
+import dev.vudovenko.eventmanagement.utils.EventSearchRequestDtoTestUtils;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+public class EventControllerSearchFacetsTest extends AbstractTest {
+
+    @Autowired
+    private EventSearchRepository eventSearchRepository;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private EventSearchRequestDtoTestUtils eventSearchRequestDtoTestUtils;
+
+    @ParameterizedTest
+    @MethodSource("dev.vudovenko.eventmanagement.utils.dataProviders.UserTestDataProviders#rolesProvider")
+    void shouldCountAllFacetsOfFoundEvents(UserRole role) throws Exception {
+        Location location = createLocationWithEvents();
+
+        EventSearchFacetsDto facetsDto = getSearchFacets(
+                eventSearchRequestDtoTestUtils.getEventSearchRequestDtoByLocation(location.getId()),
+                false,
+                role
+        );
+
+        Assertions.assertEquals(3, facetsDto.total());
+        Assertions.assertFalse(facetsDto.approximate());
+        Assertions.assertEquals(
+                Map.of(EventStatus.WAIT_START, 2L, EventStatus.CANCELLED, 1L),
+                facetsDto.statuses()
+        );
+        Assertions.assertEquals(Map.of(location.getId(), 3L), facetsDto.locations());
+        Assertions.assertEquals(
+                List.of(
+                        new EventFacetRangeDto(null, 500, 1),
+                        new EventFacetRangeDto(1000, 3000, 2)
+                ),
+                facetsDto.costs()
+        );
+        Assertions.assertEquals(
+                List.of(
+                        new EventFacetRangeDto(30, 60, 1),
+                        new EventFacetRangeDto(60, 120, 1),
+                        new EventFacetRangeDto(120, 240, 1)
+                ),
+                facetsDto.durations()
+        );
+    }
+
+    @Test
+    void shouldCountExactlyWhenTableIsSmallEvenIfApproximationAllowed() throws Exception {
+        Location location = createLocationWithEvents();
+
+        EventSearchFacetsDto facetsDto = getSearchFacets(
+                eventSearchRequestDtoTestUtils.getEventSearchRequestDtoByLocation(location.getId()),
+                true,
+                UserRole.USER
+        );
+
+        Assertions.assertEquals(3, facetsDto.total());
+        Assertions.assertFalse(facetsDto.approximate());
+    }
+
+    @Test
+    void shouldCountFacetsBySample() {
+        Location location = createLocationWithEvents();
+
+        EventSearchFacets facets = eventSearchRepository.countFacets(
+                new EventSearchFilter(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        location.getId(),
+                        null,
+                        null
+                ),
+                100.0
+        );
+
+        Assertions.assertEquals(3, facets.total());
+        Assertions.assertTrue(facets.approximate());
+    }
+
+    @Test
+    void shouldReturnUnauthorizedWhenGetSearchFacetsWithoutAuthorization() throws Exception {
+        mockMvc
+                .perform(
+                        post("/events/search/facets")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        eventSearchRequestDtoTestUtils.getBlankEventSearchRequestDto()
+                                ))
+                )
+                .andExpect(status().isUnauthorized());
+    }
+
+    private Location createLocationWithEvents() {
+        Location location = locationTestUtils.getCreatedLocation();
+        eventTestUtils.getCreatedEvent(location, 100, 30, EventStatus.WAIT_START);
+        eventTestUtils.getCreatedEvent(location, 1200, 60, EventStatus.WAIT_START);
+        eventTestUtils.getCreatedEvent(location, 1200, 200, EventStatus.CANCELLED);
+
+        return location;
+    }
+
+    private EventSearchFacetsDto getSearchFacets(
+            EventSearchRequestDto eventSearchRequestDto,
+            boolean approximate,
+            UserRole role
+    ) throws Exception {
+        String facetsJson = mockMvc
+                .perform(
+                        post("/events/search/facets")
+                                .param("approximate", String.valueOf(approximate))
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(eventSearchRequestDto))
+                                .header(HttpHeaders.AUTHORIZATION, getAuthorizationHeader(role))
+                )
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readValue(facetsJson, EventSearchFacetsDto.class);
+    }
+}
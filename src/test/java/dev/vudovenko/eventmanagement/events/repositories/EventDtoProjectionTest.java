@@ -0,0 +1,128 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import com.sun.management.ThreadMXBean;
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.common.mappers.DtoMapper;
+import dev.vudovenko.eventmanagement.common.mappers.EntityMapper;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.dto.EventDto;
+import dev.vudovenko.eventmanagement.events.entity.EventEntity;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.users.entity.UserEntity;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import lombok.extern.log4j.Log4j2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Сравнивает объем памяти, выделяемой при чтении мероприятий через сущности и мапперы
+ * и через проекцию прямо в EventDto
+ */
+@Log4j2
+class EventDtoProjectionTest extends AbstractTest {
+
+    private static final int NUMBER_EVENTS = 500;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 20;
+
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EntityMapper<Event, EventEntity> eventEntityMapper;
+    @Autowired
+    private EntityMapper<User, UserEntity> userEntityMapper;
+    @Autowired
+    private DtoMapper<Event, EventDto> eventDtoMapper;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldProjectSameDtosAsEntityMapping() {
+        User owner = createOwnerWithEvents();
+
+        Assertions.assertEquals(
+                readThroughEntities(owner),
+                eventRepository.findAllDtosByOwnerId(owner.getId())
+        );
+    }
+
+    @Test
+    void shouldAllocateLessThanEntityMapping() {
+        User owner = createOwnerWithEvents();
+
+        long entityMappingBytes = measureAllocatedBytes(() -> readThroughEntities(owner));
+        long projectionBytes = measureAllocatedBytes(() -> eventRepository.findAllDtosByOwnerId(owner.getId()));
+        log.info(
+                "Allocated per read of {} events: entity mapping {} bytes, projection {} bytes",
+                NUMBER_EVENTS,
+                entityMappingBytes,
+                projectionBytes
+        );
+
+        Assertions.assertTrue(
+                projectionBytes < entityMappingBytes,
+                "projection allocated " + projectionBytes + " bytes, entity mapping " + entityMappingBytes
+        );
+    }
+
+    private User createOwnerWithEvents() {
+        User owner = userTestUtils.getRegisteredUser();
+        Location location = locationTestUtils.getCreatedLocation();
+
+        eventTestUtils.insertEvents(
+                IntStream.range(0, NUMBER_EVENTS)
+                        .mapToObj(i -> new Event(
+                                null,
+                                "event " + i,
+                                owner,
+                                100,
+                                0,
+                                LocalDateTime.now().plusDays(1).plusMinutes(i),
+                                1000,
+                                60,
+                                location,
+                                EventStatus.WAIT_START
+                        ))
+                        .toList()
+        );
+
+        return owner;
+    }
+
+    private List<EventDto> readThroughEntities(User owner) {
+        return eventRepository.findAllByOwner(userEntityMapper.toEntity(owner))
+                .stream()
+                .map(eventEntityMapper::toDomain)
+                .map(eventDtoMapper::toDto)
+                .toList();
+    }
+
+    /**
+     * @return среднее количество байт, выделенных текущим потоком за одно чтение
+     */
+    private long measureAllocatedBytes(Supplier<List<EventDto>> read) {
+        ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        IntStream.range(0, WARMUP_ITERATIONS).forEach(i -> read.get());
+
+        long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+        IntStream.range(0, MEASURED_ITERATIONS).forEach(i -> read.get());
+
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore) / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.services.EventRegistrationService;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Map;
+
+class EventParticipantsRepositoryTest extends AbstractTest {
+
+    @Autowired
+    private EventParticipantsRepository eventParticipantsRepository;
+    @Autowired
+    private EventRegistrationService eventRegistrationService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldGroupParticipantsByEvent() {
+        Event firstEvent = eventTestUtils.getCreatedEvent();
+        Event secondEvent = eventTestUtils.getCreatedEvent();
+        Event eventWithoutParticipants = eventTestUtils.getCreatedEvent();
+        List<User> users = userTestUtils.insertUsers(3);
+        users.forEach(user -> eventRegistrationService.registerForEvent(firstEvent.getId(), user));
+        eventRegistrationService.registerForEvent(secondEvent.getId(), users.get(1));
+
+        Map<Long, List<Long>> participantIds = eventParticipantsRepository.findParticipantIdsByEventIds(
+                List.of(firstEvent.getId(), secondEvent.getId(), eventWithoutParticipants.getId())
+        );
+
+        Assertions.assertEquals(2, participantIds.size());
+        Assertions.assertEquals(
+                users.stream()
+                        .map(User::getId)
+                        .sorted()
+                        .toList(),
+                participantIds.get(firstEvent.getId())
+        );
+        Assertions.assertEquals(
+                List.of(users.get(1).getId()),
+                participantIds.get(secondEvent.getId())
+        );
+    }
+
+    @Test
+    void shouldReturnNothingForNoEvents() {
+        Assertions.assertTrue(eventParticipantsRepository.findParticipantIdsByEventIds(List.of()).isEmpty());
+    }
+}
@@ -0,0 +1,231 @@
+package dev.vudovenko.eventmanagement.events.repositories;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationRepository;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchCursor;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.QueryPlanTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Проверяет по EXPLAIN с настройками планировщика по умолчанию, что для типовых наборов фильтров
+ * планировщик сам выбирает нужный индекс на заполненной и проанализированной таблице
+ */
+class EventSearchQueryPlanTest extends AbstractTest {
+
+    private static final int NUMBER_EVENTS = 20000;
+    private static final int PAGE_LIMIT = 101;
+
+    @Autowired
+    private EventSearchQueryBuilder eventSearchQueryBuilder;
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private QueryPlanTestUtils queryPlanTestUtils;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+
+    private Location popularLocation;
+    private Location rareLocation;
+
+    @BeforeEach
+    void prepareEvents() {
+        eventRegistrationRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        User owner = userTestUtils.getRegisteredUser();
+        popularLocation = locationTestUtils.getCreatedLocation();
+        rareLocation = locationTestUtils.getCreatedLocation();
+
+        Random random = new Random(42);
+        List<Event> events = IntStream.range(0, NUMBER_EVENTS)
+                .mapToObj(i -> new Event(
+                        null,
+                        "event " + i,
+                        owner,
+                        random.nextInt(500) + 1,
+                        0,
+                        LocalDateTime.now().plusMinutes(random.nextInt(365 * 24 * 60)),
+                        random.nextInt(5000),
+                        random.nextInt(570) + 30,
+                        i % 500 == 0 ? rareLocation : popularLocation,
+                        i % 100 == 0 ? EventStatus.CANCELLED : EventStatus.WAIT_START
+                ))
+                .toList();
+        eventTestUtils.insertEvents(events);
+
+        namedParameterJdbcTemplate.getJdbcTemplate().execute("ANALYZE events");
+    }
+
+    @Test
+    void shouldUseDateIndexWithoutFilters() {
+        assertUsesIndex(filter(null, null, null, null), null, "idx_events_date_id");
+    }
+
+    @Test
+    void shouldUseDateIndexWhenContinuingFromCursor() {
+        EventSearchCursor cursor = EventSearchCursor.byDate(LocalDateTime.now().plusDays(100), Long.MAX_VALUE);
+
+        assertUsesIndex(filter(null, null, null, null), cursor, "idx_events_date_id");
+    }
+
+    @Test
+    void shouldUseStatusIndexWhenFilteringBySelectiveStatus() {
+        assertUsesIndex(filter(EventStatus.CANCELLED, null, null, null), null, "idx_events_status_date");
+    }
+
+    @Test
+    void shouldUseStatusIndexWhenFilteringBySelectiveStatusAndDateRange() {
+        assertUsesIndex(
+                filter(
+                        EventStatus.CANCELLED,
+                        null,
+                        LocalDateTime.now().plusDays(10),
+                        LocalDateTime.now().plusDays(20)
+                ),
+                null,
+                "idx_events_status_date"
+        );
+    }
+
+    @Test
+    void shouldUseLocationIndexWhenFilteringBySelectiveLocation() {
+        assertUsesIndex(filter(null, rareLocation.getId(), null, null), null, "idx_events_location_id_date");
+    }
+
+    @Test
+    void shouldUseLocationIndexWhenFilteringBySelectiveLocationAndStatus() {
+        assertUsesIndex(
+                filter(EventStatus.WAIT_START, rareLocation.getId(), null, null),
+                null,
+                "idx_events_location_id_date"
+        );
+    }
+
+    /**
+     * Для стоимости и длительности индексов нет: при широких диапазонах страница читается по индексу даты
+     * в порядке сортировки, а фильтры проверяются по строкам
+     */
+    @Test
+    void shouldUseDateIndexWhenFilteringByCostAndDuration() {
+        EventSearchFilter filter = new EventSearchFilter(
+                null,
+                null,
+                null,
+                null,
+                null,
+                0,
+                4000,
+                30,
+                500,
+                null,
+                null,
+                null
+        );
+
+        assertUsesIndex(filter, null, "idx_events_date_id");
+    }
+
+    @Test
+    void shouldUseTrigramIndexWhenSearchingBySubstring() {
+        assertUsesIndex(nameFilter("nt 2999", EventNameSearchMode.SUBSTRING), null, "idx_events_name_trgm");
+    }
+
+    @Test
+    void shouldUseTextSearchIndexWhenSearchingByWords() {
+        assertUsesIndex(nameFilter("2999", EventNameSearchMode.FULL_TEXT), null, "idx_events_name_tsv");
+    }
+
+    @Test
+    void shouldUseTextSearchIndexWhenSortingByRelevance() {
+        EventSearchQuery query = eventSearchQueryBuilder.build(
+                nameFilter("2999", EventNameSearchMode.FULL_TEXT),
+                EventSearchSort.RELEVANCE,
+                EventSearchCursor.byRelevance(0.5f, 1L),
+                PAGE_LIMIT
+        );
+
+        assertUsesIndex(query, "idx_events_name_tsv");
+    }
+
+    private EventSearchFilter nameFilter(String name, EventNameSearchMode nameSearchMode) {
+        return new EventSearchFilter(
+                name,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                nameSearchMode
+        );
+    }
+
+    private EventSearchFilter filter(
+            EventStatus status,
+            Long locationId,
+            LocalDateTime dateStartAfter,
+            LocalDateTime dateStartBefore
+    ) {
+        return new EventSearchFilter(
+                null,
+                null,
+                null,
+                dateStartAfter,
+                dateStartBefore,
+                null,
+                null,
+                null,
+                null,
+                locationId,
+                status,
+                null
+        );
+    }
+
+    private void assertUsesIndex(EventSearchFilter filter, EventSearchCursor cursor, String expectedIndex) {
+        assertUsesIndex(
+                eventSearchQueryBuilder.build(filter, EventSearchSort.DATE, cursor, PAGE_LIMIT),
+                expectedIndex
+        );
+    }
+
+    private void assertUsesIndex(EventSearchQuery query, String expectedIndex) {
+        String plan = queryPlanTestUtils.explain(query.sql(), query.parameters());
+
+        Assertions.assertThat(plan)
+                .as("Plan for query:\n%s", query.sql())
+                .doesNotContain("Seq Scan")
+                .contains(expectedIndex);
+    }
+}
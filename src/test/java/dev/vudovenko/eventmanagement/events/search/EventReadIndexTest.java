@@ -0,0 +1,202 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchHit;
+import dev.vudovenko.eventmanagement.events.domain.EventsChangedEvent;
+import dev.vudovenko.eventmanagement.events.repositories.EventSearchRepository;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+@TestPropertySource(properties = "events.search.read-index.enabled=true")
+class EventReadIndexTest extends AbstractTest {
+
+    private static final int PAGE_LIMIT = 3;
+
+    @Autowired
+    private EventReadIndex eventReadIndex;
+    @MockitoSpyBean
+    private EventSearchRepository eventSearchRepository;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldFindSameEventsAsDatabase() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        IntStream.rangeClosed(1, 7)
+                .forEach(i -> eventTestUtils.getCreatedEvent(0, i * 10, location, eventCreator));
+
+        EventSearchFilter filter = filter(location.getId(), EventStatus.WAIT_START, 20, null);
+
+        List<EventSearchHit> firstPage = eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow();
+        List<EventSearchHit> secondPage = eventReadIndex
+                .search(filter, firstPage.get(PAGE_LIMIT - 1).cursor(), PAGE_LIMIT)
+                .orElseThrow();
+
+        Assertions.assertEquals(
+                getIds(eventSearchRepository.searchEvents(filter, EventSearchSort.DATE, null, PAGE_LIMIT)),
+                getIds(firstPage)
+        );
+        Assertions.assertEquals(
+                getIds(eventSearchRepository.searchEvents(
+                        filter,
+                        EventSearchSort.DATE,
+                        firstPage.get(PAGE_LIMIT - 1).cursor(),
+                        PAGE_LIMIT
+                )),
+                getIds(secondPage)
+        );
+        Assertions.assertEquals(PAGE_LIMIT, secondPage.size());
+    }
+
+    @Test
+    void shouldReflectChangesAfterCommit() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        Event createdEvent = eventTestUtils.getCreatedEvent(0, 100, location, eventCreator);
+        EventSearchFilter filter = filter(location.getId(), EventStatus.WAIT_START, null, null);
+
+        eventService.increaseOccupiedPlaces(createdEvent.getId());
+
+        List<EventSearchHit> hits = eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow();
+        Assertions.assertEquals(List.of(createdEvent.getId()), getIds(hits));
+        Assertions.assertEquals(1, hits.get(0).event().getOccupiedPlaces());
+    }
+
+    @Test
+    void shouldPatchOnlyChangedEvents() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        IntStream.rangeClosed(1, 3)
+                .forEach(i -> eventTestUtils.getCreatedEvent(0, 100, location, eventCreator));
+        EventSearchFilter filter = filter(location.getId(), EventStatus.WAIT_START, null, null);
+        List<Long> idsBefore = getIds(eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow());
+
+        Long movedEventId = idsBefore.get(0);
+        Long finishedEventId = idsBefore.get(1);
+        jdbcTemplate.update("UPDATE events SET date = date + INTERVAL '1 day' WHERE id = ?", movedEventId);
+        jdbcTemplate.update("UPDATE events SET status = 'FINISHED' WHERE id = ?", finishedEventId);
+        applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(movedEventId, finishedEventId)));
+
+        Assertions.assertEquals(
+                List.of(idsBefore.get(2), movedEventId),
+                getIds(eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow())
+        );
+    }
+
+    @Test
+    void shouldApplyAccumulatedChangesInOnePatch() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        List<Long> eventIds = IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> eventTestUtils.getCreatedEvent(0, 100, location, eventCreator).getId())
+                .toList();
+        EventSearchFilter filter = filter(location.getId(), EventStatus.WAIT_START, null, null);
+        eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow();
+        Mockito.clearInvocations(eventSearchRepository);
+
+        eventIds.forEach(eventId -> {
+            jdbcTemplate.update("UPDATE events SET cost = cost + 1 WHERE id = ?", eventId);
+            applicationEventPublisher.publishEvent(new EventsChangedEvent(List.of(eventId)));
+        });
+        Mockito.verify(eventSearchRepository, Mockito.never()).findAllByIdIn(ArgumentMatchers.any());
+
+        eventReadIndex.search(filter, null, PAGE_LIMIT).orElseThrow();
+
+        Mockito.verify(eventSearchRepository).findAllByIdIn(Set.copyOf(eventIds));
+    }
+
+    @Test
+    void shouldNotIndexFinishedEvents() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        Event finishedEvent = eventTestUtils.getCreatedEvent(EventStatus.FINISHED);
+
+        Assertions.assertTrue(eventReadIndex.search(
+                filter(finishedEvent.getLocation().getId(), EventStatus.FINISHED, null, null),
+                null,
+                PAGE_LIMIT
+        ).isEmpty());
+        Assertions.assertEquals(
+                List.of(),
+                eventReadIndex.search(
+                        filter(location.getId(), EventStatus.WAIT_START, null, null),
+                        null,
+                        PAGE_LIMIT
+                ).orElseThrow()
+        );
+    }
+
+    @Test
+    void shouldNotAnswerSearchByName() {
+        EventSearchFilter filter = new EventSearchFilter(
+                "event",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                EventStatus.WAIT_START,
+                null
+        );
+
+        Assertions.assertTrue(eventReadIndex.search(filter, null, PAGE_LIMIT).isEmpty());
+    }
+
+    private EventSearchFilter filter(Long locationId, EventStatus status, Integer placesMin, Integer placesMax) {
+        return new EventSearchFilter(
+                null,
+                placesMin,
+                placesMax,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                locationId,
+                status,
+                null
+        );
+    }
+
+    private List<Long> getIds(List<EventSearchHit> hits) {
+        return hits
+                .stream()
+                .map(hit -> hit.event().getId())
+                .toList();
+    }
+}
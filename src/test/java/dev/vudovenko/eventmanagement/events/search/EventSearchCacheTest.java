@@ -0,0 +1,115 @@
+package dev.vudovenko.eventmanagement.events.search;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchFilter;
+import dev.vudovenko.eventmanagement.events.domain.EventSearchPage;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.locations.domain.Location;
+import dev.vudovenko.eventmanagement.users.domain.User;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+@TestPropertySource(properties = "events.search.cache.enabled=true")
+class EventSearchCacheTest extends AbstractTest {
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+    @Autowired
+    private UserTestUtils userTestUtils;
+
+    @Test
+    void shouldServeRepeatedSearchFromCache() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        Event event = eventTestUtils.getCreatedEvent(0, 10, location, userTestUtils.getRegisteredUser());
+
+        searchEventsAt(location);
+        double hitsBefore = getCacheGets("hit");
+        EventSearchPage page = searchEventsAt(location);
+
+        Assertions.assertEquals(hitsBefore + 1, getCacheGets("hit"));
+        Assertions.assertEquals(List.of(event.getId()), getIds(page));
+    }
+
+    @Test
+    void shouldInvalidatePagesThatEventCouldMatch() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        Event firstEvent = eventTestUtils.getCreatedEvent(0, 10, location, eventCreator);
+        searchEventsAt(location);
+
+        Event secondEvent = eventTestUtils.getCreatedEvent(0, 10, location, eventCreator);
+        eventService.increaseOccupiedPlaces(firstEvent.getId());
+        EventSearchPage page = searchEventsAt(location);
+
+        Assertions.assertEquals(List.of(firstEvent.getId(), secondEvent.getId()), getIds(page));
+        Assertions.assertEquals(1, page.events().get(0).getOccupiedPlaces());
+    }
+
+    @Test
+    void shouldKeepPagesThatEventCouldNotMatch() {
+        Location location = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        Location otherLocation = locationTestUtils.getCreatedLocationWithCapacity(1000);
+        User eventCreator = userTestUtils.getRegisteredUser();
+        eventTestUtils.getCreatedEvent(0, 10, location, eventCreator);
+        searchEventsAt(location);
+
+        eventTestUtils.getCreatedEvent(0, 10, otherLocation, eventCreator);
+        double hitsBefore = getCacheGets("hit");
+        searchEventsAt(location);
+
+        Assertions.assertEquals(hitsBefore + 1, getCacheGets("hit"));
+    }
+
+    private EventSearchPage searchEventsAt(Location location) {
+        return eventService.searchEvents(
+                new EventSearchFilter(
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        location.getId(),
+                        null,
+                        null
+                ),
+                null,
+                null,
+                null
+        );
+    }
+
+    private double getCacheGets(String result) {
+        return meterRegistry
+                .get("cache.gets")
+                .tag("cache", "eventSearch")
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private List<Long> getIds(EventSearchPage page) {
+        return page.events()
+                .stream()
+                .map(Event::getId)
+                .toList();
+    }
+}
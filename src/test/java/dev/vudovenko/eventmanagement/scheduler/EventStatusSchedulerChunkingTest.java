@@ -0,0 +1,70 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.eventRegistrations.repositories.EventRegistrationRepository;
+import dev.vudovenko.eventmanagement.events.entity.EventEntity;
+import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Нулевой бюджет времени: каждый запуск выполняет ровно одну порцию переходов
+ */
+@TestPropertySource(properties = {
+        "scheduler.event.statuses.chunk-size=3",
+        "scheduler.event.statuses.time-budget=PT0S"
+})
+class EventStatusSchedulerChunkingTest extends AbstractTest {
+
+    private static final int NUMBER_EVENTS = 7;
+
+    @Autowired
+    private EventStatusScheduler eventStatusScheduler;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventRegistrationRepository eventRegistrationRepository;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+
+    @Test
+    void shouldContinueBacklogFromPreviousChunk() {
+        eventRegistrationRepository.deleteAll();
+        eventRepository.deleteAll();
+
+        List<Long> eventIds = IntStream.range(0, NUMBER_EVENTS)
+                .mapToObj(i -> eventTestUtils.getCreatedEvent(
+                        EventStatus.WAIT_START,
+                        600,
+                        LocalDateTime.now().minusMinutes(NUMBER_EVENTS - i)
+                ))
+                .map(EventEntity::getId)
+                .toList();
+
+        Assertions.assertFalse(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(eventIds.subList(0, 3), getStartedEventIds());
+
+        Assertions.assertFalse(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(eventIds.subList(0, 6), getStartedEventIds());
+
+        Assertions.assertTrue(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(eventIds, getStartedEventIds());
+    }
+
+    private List<Long> getStartedEventIds() {
+        return eventRepository.findAll()
+                .stream()
+                .filter(event -> event.getStatus() == EventStatus.STARTED)
+                .map(EventEntity::getId)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,156 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.changes.dto.EventChangeDto;
+import dev.vudovenko.eventmanagement.events.changes.senders.EventChangeSender;
+import dev.vudovenko.eventmanagement.events.entity.EventEntity;
+import dev.vudovenko.eventmanagement.events.repositories.EventRepository;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Другой экземпляр приложения изображается отдельным соединением с БД,
+ * которое берет блокировку планировщика и начинает смену статусов.
+ * Отправка уведомлений в Kafka подменяется, чтобы посчитать их
+ */
+class EventStatusSchedulerFailoverTest extends AbstractTest {
+
+    @Autowired
+    private EventStatusScheduler eventStatusScheduler;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @MockitoSpyBean
+    private EventChangeSender eventChangeSender;
+
+    @Value("${scheduler.event.statuses.advisory-lock-key}")
+    private long lockKey;
+
+    @BeforeEach
+    void stubKafka() {
+        Mockito.doNothing().when(eventChangeSender).sendEvents(ArgumentMatchers.anyList());
+    }
+
+    @Test
+    void shouldTakeOverTransitionsWhenLeaderDiesMidRun() throws SQLException {
+        EventEntity event = eventTestUtils.getCreatedEvent(EventStatus.WAIT_START, 100, LocalDateTime.now());
+
+        try (Connection leader = dataSource.getConnection()) {
+            leader.setAutoCommit(false);
+            Assertions.assertTrue(tryLock(leader));
+            startEvent(leader, event.getId());
+
+            Assertions.assertFalse(eventStatusScheduler.updateEventStatuses());
+            Assertions.assertEquals(EventStatus.WAIT_START, getStatus(event.getId()));
+
+            jdbcTemplate.queryForObject("SELECT pg_terminate_backend(?)", Boolean.class, getBackendPid(leader));
+        }
+
+        Assertions.assertTrue(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(EventStatus.STARTED, getStatus(event.getId()));
+    }
+
+    @Test
+    void shouldRunWhenLeaderFinished() throws SQLException {
+        EventEntity event = eventTestUtils.getCreatedEvent(EventStatus.WAIT_START, 100, LocalDateTime.now());
+
+        try (Connection leader = dataSource.getConnection()) {
+            leader.setAutoCommit(false);
+            Assertions.assertTrue(tryLock(leader));
+            leader.commit();
+            leader.setAutoCommit(true);
+        }
+
+        Assertions.assertTrue(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(EventStatus.STARTED, getStatus(event.getId()));
+    }
+
+    @Test
+    void shouldNotifyOnceWhenFailedInstanceRolledBackChunk() {
+        EventEntity event = eventTestUtils.getCreatedEvent(EventStatus.WAIT_START, 100, LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventService.startEvents(LocalDateTime.now(), null, 500);
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals(EventStatus.WAIT_START, getStatus(event.getId()));
+        Assertions.assertEquals(0, countNotifications(event.getId()));
+
+        Assertions.assertTrue(eventStatusScheduler.updateEventStatuses());
+        Assertions.assertEquals(EventStatus.STARTED, getStatus(event.getId()));
+        Assertions.assertEquals(1, countNotifications(event.getId()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long countNotifications(Long eventId) {
+        ArgumentCaptor<List<EventChangeDto>> captor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(eventChangeSender, Mockito.atLeast(0)).sendEvents(captor.capture());
+
+        return captor.getAllValues()
+                .stream()
+                .flatMap(List::stream)
+                .filter(eventChangeDto -> eventChangeDto.eventId().equals(eventId))
+                .count();
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+            statement.setLong(1, lockKey);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void startEvent(Connection connection, Long eventId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE events SET status = 'STARTED' WHERE id = ?"
+        )) {
+            statement.setLong(1, eventId);
+            statement.executeUpdate();
+        }
+    }
+
+    private int getBackendPid(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_backend_pid()");
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private EventStatus getStatus(Long eventId) {
+        return eventRepository.findById(eventId).orElseThrow().getStatus();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.utils.EventTestUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+class EventStatusSchedulerMetricsTest extends AbstractTest {
+
+    @Autowired
+    private EventStatusScheduler eventStatusScheduler;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EventTestUtils eventTestUtils;
+
+    @Test
+    void shouldRecordTransitionLagAndTick() {
+        eventTestUtils.getCreatedEvent(EventStatus.WAIT_START, 600, LocalDateTime.now().minusMinutes(5));
+        eventTestUtils.getCreatedEvent(EventStatus.STARTED, 30, LocalDateTime.now().minusHours(1));
+        double startsBefore = getTransitions("start");
+        double finishesBefore = getTransitions("finish");
+        long lagsBefore = getLagTimer("start").count();
+        long ticksBefore = meterRegistry.get("event.status.tick.transitions").summary().count();
+
+        Assertions.assertTrue(eventStatusScheduler.updateEventStatuses());
+
+        Assertions.assertTrue(getTransitions("start") >= startsBefore + 1);
+        Assertions.assertTrue(getTransitions("finish") >= finishesBefore + 1);
+        Assertions.assertTrue(getLagTimer("start").count() > lagsBefore);
+        Assertions.assertTrue(getLagTimer("start").max(TimeUnit.MINUTES) >= 5);
+        Assertions.assertTrue(getLagTimer("finish").max(TimeUnit.MINUTES) >= 30);
+        Assertions.assertEquals(ticksBefore + 1, meterRegistry.get("event.status.tick.transitions").summary().count());
+        Assertions.assertEquals(0, meterRegistry.get("event.status.backlog").gauge().value());
+        Assertions.assertTrue(
+                meterRegistry.get("event.status.tick.duration").tag("outcome", "completed").timer().count() > 0
+        );
+    }
+
+    private double getTransitions(String transition) {
+        return meterRegistry
+                .get("event.status.transitions")
+                .tag("transition", transition)
+                .counter()
+                .count();
+    }
+
+    private Timer getLagTimer(String transition) {
+        return meterRegistry
+                .get("event.status.transition.lag")
+                .tag("transition", transition)
+                .timer();
+    }
+}
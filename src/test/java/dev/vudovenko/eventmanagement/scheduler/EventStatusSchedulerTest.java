@@ -109,4 +109,29 @@ class EventStatusSchedulerTest extends AbstractTest {
         );
         Assertions.assertTrue(updatedEvents.containsAll(events));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldStartAndFinishOverdueEventInOneRun() {
+        EventEntity overdueEvent = eventTestUtils.getCreatedEvent(
+                EventStatus.WAIT_START,
+                30,
+                LocalDateTime.now().minusHours(1)
+        );
+        EventEntity upcomingEvent = eventTestUtils.getCreatedEvent(
+                EventStatus.WAIT_START,
+                30,
+                LocalDateTime.now().plusDays(1)
+        );
+
+        eventStatusScheduler.updateEventStatuses();
+
+        Assertions.assertEquals(
+                EventStatus.FINISHED,
+                eventRepository.findById(overdueEvent.getId()).orElseThrow().getStatus()
+        );
+        Assertions.assertEquals(
+                EventStatus.WAIT_START,
+                eventRepository.findById(upcomingEvent.getId()).orElseThrow().getStatus()
+        );
+    }
+}
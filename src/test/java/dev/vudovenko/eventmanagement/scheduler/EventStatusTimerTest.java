@@ -0,0 +1,93 @@
+package dev.vudovenko.eventmanagement.scheduler;
+
+import dev.vudovenko.eventmanagement.AbstractTest;
+import dev.vudovenko.eventmanagement.events.domain.Event;
+import dev.vudovenko.eventmanagement.events.domain.EventScheduleChangedEvent;
+import dev.vudovenko.eventmanagement.events.services.EventService;
+import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
+import dev.vudovenko.eventmanagement.utils.LocationTestUtils;
+import dev.vudovenko.eventmanagement.utils.RandomUtils;
+import dev.vudovenko.eventmanagement.utils.UserTestUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.LockSupport;
+
+@TestPropertySource(properties = "scheduler.enabled=true")
+class EventStatusTimerTest extends AbstractTest {
+
+    private static final Duration AWAIT_TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration MAX_TRANSITION_LAG = Duration.ofSeconds(1);
+
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserTestUtils userTestUtils;
+    @Autowired
+    private LocationTestUtils locationTestUtils;
+
+    @Test
+    void shouldStartEventAtItsDate() {
+        LocalDateTime startDate = LocalDateTime.now().plusSeconds(2);
+        Event event = eventService.createEvent(getEvent(startDate));
+
+        Assertions.assertEquals(EventStatus.WAIT_START, eventService.findById(event.getId()).getStatus());
+        assertStartedOnTime(event.getId(), startDate);
+    }
+
+    @Test
+    void shouldStartEventAtItsDateAfterDateChange() {
+        Event event = eventService.createEvent(getEvent(LocalDateTime.now().plusDays(1)));
+        LocalDateTime startDate = LocalDateTime.now().plusSeconds(2);
+        jdbcTemplate.update("UPDATE events SET date = ? WHERE id = ?", startDate, event.getId());
+        event.setDate(startDate);
+
+        applicationEventPublisher.publishEvent(new EventScheduleChangedEvent(event));
+
+        assertStartedOnTime(event.getId(), startDate);
+    }
+
+    private Event getEvent(LocalDateTime startDate) {
+        return new Event(
+                null,
+                "event-" + RandomUtils.getRandomInt(),
+                userTestUtils.getRegisteredUser(),
+                50,
+                0,
+                startDate,
+                1200,
+                60,
+                locationTestUtils.getCreatedLocation(),
+                EventStatus.WAIT_START
+        );
+    }
+
+    private void assertStartedOnTime(Long eventId, LocalDateTime startDate) {
+        awaitStatus(eventId, EventStatus.STARTED);
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        Assertions.assertFalse(startedAt.isBefore(startDate));
+        Assertions.assertTrue(
+                Duration.between(startDate, startedAt).compareTo(MAX_TRANSITION_LAG) <= 0,
+                "event started " + Duration.between(startDate, startedAt) + " after its date"
+        );
+    }
+
+    private void awaitStatus(Long eventId, EventStatus status) {
+        long deadline = System.nanoTime() + AWAIT_TIMEOUT.toNanos();
+        while (eventService.findById(eventId).getStatus() != status) {
+            Assertions.assertTrue(System.nanoTime() < deadline, "event did not reach status " + status);
+            LockSupport.parkNanos(Duration.ofMillis(50).toNanos());
+        }
+    }
+}
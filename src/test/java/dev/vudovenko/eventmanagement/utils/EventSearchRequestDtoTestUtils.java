@@ -1,6 +1,8 @@
 package dev.vudovenko.eventmanagement.utils;
 
 import dev.vudovenko.eventmanagement.events.dto.EventSearchRequestDto;
+import dev.vudovenko.eventmanagement.events.search.EventNameSearchMode;
+import dev.vudovenko.eventmanagement.events.search.EventSearchSort;
 import dev.vudovenko.eventmanagement.events.services.EventService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -27,6 +29,74 @@ public class EventSearchRequestDtoTestUtils {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public EventSearchRequestDto getBlankEventSearchRequestDto(Integer pageSize, String pageToken) {
+        return new EventSearchRequestDto(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                pageSize,
+                pageToken
+        );
+    }
+
+    public EventSearchRequestDto getEventSearchRequestDtoByLocation(Long locationId) {
+        return new EventSearchRequestDto(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                locationId,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    public EventSearchRequestDto getEventSearchRequestDtoByName(
+            String name,
+            EventNameSearchMode nameSearchMode,
+            EventSearchSort sort
+    ) {
+        return new EventSearchRequestDto(
+                name,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                nameSearchMode,
+                sort,
+                null,
                 null
         );
     }
@@ -43,6 +113,10 @@ public class EventSearchRequestDtoTestUtils {
                 -Math.abs(RandomUtils.getRandomInt()),
                 -Math.abs(RandomUtils.getRandomInt()),
                 null,
+                null,
+                null,
+                null,
+                0,
                 null
         );
     }
@@ -11,9 +11,11 @@ import dev.vudovenko.eventmanagement.events.statuses.EventStatus;
 import dev.vudovenko.eventmanagement.locations.domain.Location;
 import dev.vudovenko.eventmanagement.users.domain.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Component
 public class EventTestUtils {
@@ -28,11 +30,19 @@ public class EventTestUtils {
     private LocationTestUtils locationTestUtils;
     @Autowired
     private EntityMapper<Event, EventEntity> eventEntityMapper;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     public Event getCreatedEvent() {
         return eventService.createEvent(getEvent());
     }
 
+    public Event getCreatedEvent(String name) {
+        Event event = getEvent();
+        event.setName(name);
+        return eventService.createEvent(event);
+    }
+
     public Event getCreatedEvent(User eventCreator) {
         Event event = getEvent();
         event.setOwner(eventCreator);
@@ -61,6 +71,15 @@ public class EventTestUtils {
         return eventService.createEvent(event);
     }
 
+    public Event getCreatedEvent(Location location, int cost, int duration, EventStatus status) {
+        Event event = getEvent();
+        event.setLocation(location);
+        event.setCost(cost);
+        event.setDuration(duration);
+        event.setStatus(status);
+        return eventService.createEvent(event);
+    }
+
     public EventEntity getCreatedEvent(EventStatus status, Integer duration, LocalDateTime startDate) {
         Event event = getEvent();
         event.setStatus(status);
@@ -70,6 +89,34 @@ public class EventTestUtils {
         return eventRepository.save(eventEntityMapper.toEntity(event));
     }
 
+    /**
+     * Вставляет мероприятия одним batch-запросом в обход валидаций сервиса.
+     * Нужен для тестов, которым важен объем данных, а не бизнес-правила создания
+     */
+    public void insertEvents(List<Event> events) {
+        jdbcTemplate.batchUpdate(
+                """
+                        INSERT INTO events
+                        (name, owner_id, max_places, occupied_places, date, cost, duration, location_id, status)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                        """,
+                events
+                        .stream()
+                        .map(event -> new Object[]{
+                                event.getName(),
+                                event.getOwner().getId(),
+                                event.getMaxPlaces(),
+                                event.getOccupiedPlaces(),
+                                event.getDate(),
+                                event.getCost(),
+                                event.getDuration(),
+                                event.getLocation().getId(),
+                                event.getStatus().name()
+                        })
+                        .toList()
+        );
+    }
+
     public Event getCreatedEvent(EventStatus status) {
         Event event = getEvent();
         event.setStatus(status);
@@ -0,0 +1,41 @@
+package dev.vudovenko.eventmanagement.utils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class QueryPlanTestUtils {
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Возвращает план, который планировщик выбирает с настройками по умолчанию
+     */
+    public String explain(String sql, SqlParameterSource parameters) {
+        return String.join(
+                "\n",
+                namedParameterJdbcTemplate.queryForList("EXPLAIN " + sql, parameters, String.class)
+        );
+    }
+
+    /**
+     * Возвращает план запроса, построенный с запретом последовательного сканирования.
+     * Если план все равно содержит Seq Scan, значит подходящего индекса для запроса нет
+     */
+    public String explainWithoutSeqScan(String sql, SqlParameterSource parameters) {
+        return transactionTemplate.execute(status -> {
+            namedParameterJdbcTemplate.getJdbcTemplate().execute("SET LOCAL enable_seqscan = off");
+
+            return String.join(
+                    "\n",
+                    namedParameterJdbcTemplate.queryForList("EXPLAIN " + sql, parameters, String.class)
+            );
+        });
+    }
+}
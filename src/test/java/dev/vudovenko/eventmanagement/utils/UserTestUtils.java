@@ -6,13 +6,18 @@ import dev.vudovenko.eventmanagement.users.services.UserRegistrationService;
 import dev.vudovenko.eventmanagement.users.services.UserService;
 import dev.vudovenko.eventmanagement.users.userRoles.UserRole;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class UserTestUtils {
 
     @Autowired
     private UserRegistrationService userRegistrationService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     public User getRegisteredUser() {
         return userRegistrationService.registerUser(
@@ -26,6 +31,26 @@ public class UserTestUtils {
         );
     }
 
+    /**
+     * Вставляет пользователей одним запросом в обход регистрации, без хеширования паролей.
+     * Нужен для тестов, которым важно количество пользователей, а не возможность войти под ними
+     */
+    public List<User> insertUsers(int count) {
+        return jdbcTemplate.queryForList(
+                        """
+                                INSERT INTO users (login, password, age, role)
+                                SELECT 'login-' || gen_random_uuid(), 'password', 20, 'USER'
+                                FROM generate_series(1, ?)
+                                RETURNING id
+                                """,
+                        Long.class,
+                        count
+                )
+                .stream()
+                .map(User::new)
+                .toList();
+    }
+
     public UserRegistration getWrongUserRegistration() {
         return new UserRegistration(
                 null,